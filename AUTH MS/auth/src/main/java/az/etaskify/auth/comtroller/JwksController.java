@@ -0,0 +1,30 @@
+package az.etaskify.auth.comtroller;
+
+import az.etaskify.auth.dto.JwkSetDto;
+import az.etaskify.auth.service.SigningKeyService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@RestController
+public class JwksController {
+    private final SigningKeyService signingKeyService;
+    private final CacheControl cacheControl;
+
+    public JwksController(SigningKeyService signingKeyService,
+                          @Value("${jwt.jwks.max-age:5m}") Duration maxAge) {
+        this.signingKeyService = signingKeyService;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<JwkSetDto> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .body(signingKeyService.jwks());
+    }
+}
@@ -5,6 +5,9 @@ import az.etaskify.auth.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Set;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("api/v1/user")
@@ -21,4 +24,14 @@ public class UserController {
     public UserDto userByUsername(@PathVariable("username") String username) {
         return userService.getByUsername(username);
     }
+
+    @PostMapping("/batch")
+    public List<UserDto> usersByIds(@RequestBody Set<Long> ids) {
+        return userService.getByIds(ids);
+    }
+
+    @PostMapping("/batch/by-username")
+    public List<UserDto> usersByUsernames(@RequestBody Set<String> usernames) {
+        return userService.getByUsernames(usernames);
+    }
 }
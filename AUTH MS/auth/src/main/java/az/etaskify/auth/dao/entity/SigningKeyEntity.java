@@ -0,0 +1,32 @@
+package az.etaskify.auth.dao.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "signing_key")
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SigningKeyEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    Long id;
+    @Column(unique = true, nullable = false)
+    String kid;
+    @Column(nullable = false)
+    String algorithm;
+    @Column(name = "public_key", nullable = false)
+    String publicKey;
+    @Column(name = "private_key", nullable = false)
+    String privateKey;
+    @Column(name = "created_at", nullable = false)
+    LocalDateTime createdAt;
+    @Column(name = "retired_at")
+    LocalDateTime retiredAt;
+}
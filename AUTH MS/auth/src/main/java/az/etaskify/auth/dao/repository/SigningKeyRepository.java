@@ -0,0 +1,43 @@
+package az.etaskify.auth.dao.repository;
+
+import az.etaskify.auth.dao.entity.SigningKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SigningKeyRepository extends JpaRepository<SigningKeyEntity, Long> {
+
+    /**
+     * Keys that still sign or still verify tokens: not retired, or retired after {@code retiredAfter}.
+     */
+    @Query("SELECT k FROM SigningKeyEntity k WHERE k.retiredAt IS NULL OR k.retiredAt > :retiredAfter " +
+            "ORDER BY k.createdAt DESC, k.id DESC")
+    List<SigningKeyEntity> findPublished(@Param("retiredAfter") LocalDateTime retiredAfter);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE SigningKeyEntity k SET k.retiredAt = :retiredAt WHERE k.retiredAt IS NULL AND k.id <> :currentId")
+    int retireAllExcept(@Param("currentId") Long currentId, @Param("retiredAt") LocalDateTime retiredAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM SigningKeyEntity k WHERE k.retiredAt <= :retiredBefore")
+    int deleteRetiredBefore(@Param("retiredBefore") LocalDateTime retiredBefore);
+
+    /**
+     * Blanks private keys of retired rows that were stored before encryption; retired keys only
+     * verify, so their private half is no longer needed.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SigningKeyEntity k SET k.privateKey = '' WHERE k.retiredAt IS NOT NULL " +
+            "AND k.privateKey <> '' AND k.privateKey NOT LIKE 'enc:%'")
+    int scrubRetiredPlaintextPrivateKeys();
+}
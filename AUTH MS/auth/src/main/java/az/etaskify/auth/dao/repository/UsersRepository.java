@@ -4,10 +4,13 @@ import az.etaskify.auth.dao.entity.UsersEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UsersRepository extends JpaRepository<UsersEntity, Long> {
     Optional<UsersEntity> findByUsername(String username);
     Optional<UsersEntity> findByEmail(String email);
+    List<UsersEntity> findByUsernameIn(Collection<String> usernames);
 }
@@ -4,8 +4,12 @@ import az.etaskify.auth.dto.UserDto;
 import org.mapstruct.Mapper;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @Mapper(componentModel = "SPRING")
 public interface UserMapper {
     UserDto entityToDto(UsersEntity entity);
+
+    List<UserDto> entitiesToDtos(List<UsersEntity> entities);
 }
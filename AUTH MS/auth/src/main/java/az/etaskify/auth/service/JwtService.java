@@ -13,12 +13,9 @@ public class JwtService {
 
     public ResponseEntity<Long> validateToken(String authHeader) {
         String token = authHeader.replace("Bearer ", "");
-        if(!jwtHelper.isTokenValid(token)) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        }
-
-        Long userId = jwtHelper.extractUserId(token);
-        return ResponseEntity.ok(userId);
+        return jwtHelper.verifyUserId(token)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
     }
 
 }
@@ -0,0 +1,217 @@
+package az.etaskify.auth.service;
+
+import az.etaskify.auth.dao.entity.SigningKeyEntity;
+import az.etaskify.auth.dao.repository.SigningKeyRepository;
+import az.etaskify.auth.dto.JwkDto;
+import az.etaskify.auth.dto.JwkSetDto;
+import az.etaskify.auth.util.jwt.PrivateKeyCipher;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Owns the RS256 key pairs used to sign access tokens.
+ * <p>
+ * The newest key signs; a new one is generated once it is older than
+ * {@code jwt.keys.rotation-interval}. Keys live in the {@code signing_key} table so every auth
+ * instance signs with the same set, and each instance reloads it every
+ * {@code jwt.keys.refresh-interval-ms}. Another instance may therefore keep signing with a
+ * replaced key for up to one refresh interval, so replaced keys stay published for one token
+ * lifetime ({@code jwt.expire}) plus one refresh interval before they are deleted.
+ * <p>
+ * Private keys are stored encrypted by {@link PrivateKeyCipher}. A current key still stored in
+ * plain text is rotated out on the next check, and its private half is then blanked.
+ */
+@Slf4j
+@Service
+public class SigningKeyService {
+    public static final String ALGORITHM = "RS256";
+
+    private final SigningKeyRepository signingKeyRepository;
+    private final PrivateKeyCipher privateKeyCipher;
+    private final Duration rotationInterval;
+    private final Duration retiredKeyRetention;
+    private final int keySize;
+    private final long minReloadIntervalMillis;
+
+    private volatile KeySet keySet = new KeySet(null, Map.of(), new JwkSetDto(List.of()));
+    private volatile long lastReloadMillis;
+
+    public SigningKeyService(SigningKeyRepository signingKeyRepository,
+                             PrivateKeyCipher privateKeyCipher,
+                             @Value("${jwt.keys.rotation-interval:7d}") Duration rotationInterval,
+                             @Value("${jwt.expire}") Long tokenLifetimeMillis,
+                             @Value("${jwt.keys.refresh-interval-ms:300000}") Long refreshIntervalMillis,
+                             @Value("${jwt.keys.rsa-key-size:2048}") int keySize,
+                             @Value("${jwt.keys.min-reload-interval:30s}") Duration minReloadInterval) {
+        this.signingKeyRepository = signingKeyRepository;
+        this.privateKeyCipher = privateKeyCipher;
+        this.rotationInterval = rotationInterval;
+        this.retiredKeyRetention = Duration.ofMillis(tokenLifetimeMillis + refreshIntervalMillis);
+        this.keySize = keySize;
+        this.minReloadIntervalMillis = minReloadInterval.toMillis();
+    }
+
+    @PostConstruct
+    public void init() {
+        rotateIfDue();
+    }
+
+    @Scheduled(initialDelayString = "${jwt.keys.refresh-interval-ms:300000}",
+            fixedDelayString = "${jwt.keys.refresh-interval-ms:300000}")
+    public void refresh() {
+        try {
+            rotateIfDue();
+        } catch (Exception e) {
+            log.error("Signing key refresh failed, keeping {} loaded keys: {}", keySet.publicKeys().size(),
+                    e.getMessage(), e);
+        }
+    }
+
+    public SigningKey currentSigningKey() {
+        SigningKey current = keySet.current();
+        if (current == null) {
+            throw new IllegalStateException("No signing key is loaded");
+        }
+        return current;
+    }
+
+    /**
+     * Public key for {@code kid}, or null if unknown. An unknown kid may belong to a key another
+     * instance has just created, so the keys are reloaded, at most once per
+     * {@code jwt.keys.min-reload-interval}.
+     */
+    public PublicKey findPublicKey(String kid) {
+        if (kid == null) {
+            return null;
+        }
+        PublicKey key = keySet.publicKeys().get(kid);
+        if (key != null) {
+            return key;
+        }
+        synchronized (this) {
+            key = keySet.publicKeys().get(kid);
+            if (key == null && System.currentTimeMillis() - lastReloadMillis >= minReloadIntervalMillis) {
+                reload();
+                key = keySet.publicKeys().get(kid);
+            }
+        }
+        return key;
+    }
+
+    public JwkSetDto jwks() {
+        return keySet.jwks();
+    }
+
+    private synchronized void rotateIfDue() {
+        LocalDateTime now = LocalDateTime.now();
+        List<SigningKeyEntity> keys = signingKeyRepository.findPublished(now.minus(retiredKeyRetention));
+        SigningKeyEntity current = keys.stream().filter(key -> key.getRetiredAt() == null).findFirst().orElse(null);
+
+        if (current == null || !current.getCreatedAt().plus(rotationInterval).isAfter(now)
+                || !privateKeyCipher.isEncrypted(current.getPrivateKey())) {
+            SigningKeyEntity created = signingKeyRepository.save(generateKey(now));
+            signingKeyRepository.retireAllExcept(created.getId(), now);
+            log.info("Rotated token signing key, new kid: {}", created.getKid());
+        }
+        signingKeyRepository.scrubRetiredPlaintextPrivateKeys();
+        int deleted = signingKeyRepository.deleteRetiredBefore(now.minus(retiredKeyRetention));
+        if (deleted > 0) {
+            log.info("Deleted {} signing keys past their verification window", deleted);
+        }
+        reload();
+    }
+
+    private synchronized void reload() {
+        lastReloadMillis = System.currentTimeMillis();
+        List<SigningKeyEntity> keys = signingKeyRepository.findPublished(LocalDateTime.now().minus(retiredKeyRetention));
+
+        SigningKey current = null;
+        Map<String, PublicKey> publicKeys = new HashMap<>();
+        List<JwkDto> jwks = new ArrayList<>();
+        for (SigningKeyEntity key : keys) {
+            RSAPublicKey publicKey = (RSAPublicKey) decodePublicKey(key.getPublicKey());
+            publicKeys.put(key.getKid(), publicKey);
+            jwks.add(toJwk(key.getKid(), publicKey));
+            if (current == null && key.getRetiredAt() == null && privateKeyCipher.isEncrypted(key.getPrivateKey())) {
+                current = new SigningKey(key.getKid(),
+                        decodePrivateKey(privateKeyCipher.decrypt(key.getPrivateKey(), key.getKid())));
+            }
+        }
+        keySet = new KeySet(current, Map.copyOf(publicKeys), new JwkSetDto(List.copyOf(jwks)));
+    }
+
+    private SigningKeyEntity generateKey(LocalDateTime now) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(keySize);
+            KeyPair keyPair = generator.generateKeyPair();
+            String kid = UUID.randomUUID().toString();
+            return SigningKeyEntity.builder()
+                    .kid(kid)
+                    .algorithm(ALGORITHM)
+                    .publicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()))
+                    .privateKey(privateKeyCipher.encrypt(keyPair.getPrivate().getEncoded(), kid))
+                    .createdAt(now)
+                    .build();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not generate a signing key", e);
+        }
+    }
+
+    private static PublicKey decodePublicKey(String encoded) {
+        try {
+            return KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(encoded)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Stored public key is not a valid RSA key", e);
+        }
+    }
+
+    private static PrivateKey decodePrivateKey(byte[] encoded) {
+        try {
+            return KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(encoded));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Stored private key is not a valid RSA key", e);
+        }
+    }
+
+    private static JwkDto toJwk(String kid, RSAPublicKey key) {
+        return new JwkDto("RSA", kid, "sig", ALGORITHM, base64Url(key.getModulus()), base64Url(key.getPublicExponent()));
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public record SigningKey(String kid, PrivateKey privateKey) {
+    }
+
+    private record KeySet(SigningKey current, Map<String, PublicKey> publicKeys, JwkSetDto jwks) {
+    }
+}
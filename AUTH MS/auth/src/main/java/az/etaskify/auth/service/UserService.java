@@ -6,6 +6,9 @@ import az.etaskify.auth.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
@@ -22,5 +25,19 @@ public class UserService {
                 new RuntimeException("user not found")));
     }
 
+    public List<UserDto> getByIds(Set<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return userMapper.entitiesToDtos(usersRepository.findAllById(ids));
+    }
+
+    public List<UserDto> getByUsernames(Set<String> usernames) {
+        if (usernames == null || usernames.isEmpty()) {
+            return List.of();
+        }
+        return userMapper.entitiesToDtos(usersRepository.findByUsernameIn(usernames));
+    }
+
 
 }
@@ -1,43 +1,61 @@
 package az.etaskify.auth.util.jwt;
 
 import az.etaskify.auth.dto.JwtUserInfo;
+import az.etaskify.auth.service.SigningKeyService;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.ProtectedHeader;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
 
-@RequiredArgsConstructor
 @Component
 public class JwtHelper {
-    @Value("${jwt.expire}")
-    private Long EXPIRE;
-    @Value("${jwt.secret}")
-    private String SECRET_KEY;
+    private final Long EXPIRE;
+    private final SigningKeyService signingKeyService;
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public JwtHelper(@Value("${jwt.expire}") Long expire,
+                     SigningKeyService signingKeyService,
+                     VerifiedTokenCache verifiedTokenCache) {
+        this.EXPIRE = expire;
+        this.signingKeyService = signingKeyService;
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(ProtectedHeader header) {
+                        return signingKeyService.findPublicKey(header.getKeyId());
+                    }
+                })
+                .build();
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
 
     public String tokenGenerate(Long userid,String email, String username,String role){
+        SigningKeyService.SigningKey signingKey = signingKeyService.currentSigningKey();
         return Jwts.builder()
+                .header().keyId(signingKey.kid()).and()
                 .subject(userid.toString())
                 .claim("email", email)
                 .claim("username", username)
                 .claim("role", role)
                 .expiration(new Date(System.currentTimeMillis() + EXPIRE))
-                .signWith(secretKey())
+                .signWith(signingKey.privateKey(), Jwts.SIG.RS256)
                 .compact();
 
     }
 
 
     public JwtUserInfo tokenByDecoder(String token) {
-        var claims = Jwts.parser()
-                .verifyWith(secretKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        var claims = parser.parseSignedClaims(token).getPayload();
 
         return new JwtUserInfo(
                 Long.parseLong(claims.getSubject()),
@@ -46,37 +64,42 @@ public class JwtHelper {
                 claims.get("role", String.class)
         );
     }
-    private SecretKey secretKey (){
-        return Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
-    }
 
-    public Long extractUserId(String token) {
-        Claims claims = extractAllClaims(token);
-        String subject = claims.getSubject();
-        if (subject == null) {
-            throw new RuntimeException("Subject (User ID) claim is missing or null in the token");
+    /**
+     * Verifies the token and returns its user id, or empty if the token is invalid, expired or
+     * has no numeric subject. Tokens verified before are answered from {@link VerifiedTokenCache}
+     * without checking the signature again.
+     */
+    public Optional<Long> verifyUserId(String token) {
+        ByteBuffer digest = VerifiedTokenCache.digest(token);
+        Long cachedUserId = verifiedTokenCache.get(digest);
+        if (cachedUserId != null) {
+            return Optional.of(cachedUserId);
         }
+
+        Claims claims;
         try {
-            return Long.parseLong(subject);
-        } catch (NumberFormatException e) {
-            throw new RuntimeException("Subject (User ID) claim is not a valid number: " + subject, e);
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
         }
+        Long userId = parseUserId(claims.getSubject());
+        if (userId == null) {
+            return Optional.empty();
+        }
+        Date expiration = claims.getExpiration();
+        verifiedTokenCache.put(digest, userId, expiration == null ? null : expiration.getTime());
+        return Optional.of(userId);
     }
 
-    public boolean isTokenValid(String token) {
+    private Long parseUserId(String subject) {
+        if (subject == null) {
+            return null;
+        }
         try {
-            extractAllClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            return Long.parseLong(subject);
+        } catch (NumberFormatException e) {
+            return null;
         }
     }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
 }
@@ -0,0 +1,82 @@
+package az.etaskify.auth.util.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Encrypts signing private keys at rest with AES-256-GCM under the key-encryption key from
+ * {@code jwt.keys.encryption-key} (base64, 32 bytes), so a copy of the {@code signing_key} table
+ * alone cannot mint tokens. The key id is bound as associated data, so an encrypted key cannot
+ * be moved to another row. Startup fails without a valid key-encryption key.
+ */
+@Component
+public class PrivateKeyCipher {
+    private static final String PREFIX = "enc:v1:";
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH_BITS = 128;
+
+    private final SecretKey keyEncryptionKey;
+    private final SecureRandom random = new SecureRandom();
+
+    public PrivateKeyCipher(@Value("${jwt.keys.encryption-key:}") String encodedKey) {
+        byte[] key;
+        try {
+            key = Base64.getDecoder().decode(encodedKey);
+        } catch (IllegalArgumentException e) {
+            key = new byte[0];
+        }
+        if (key.length != 32) {
+            throw new IllegalStateException("jwt.keys.encryption-key must be a base64-encoded 256-bit key");
+        }
+        this.keyEncryptionKey = new SecretKeySpec(key, "AES");
+    }
+
+    public boolean isEncrypted(String stored) {
+        return stored != null && stored.startsWith(PREFIX);
+    }
+
+    public String encrypt(byte[] privateKey, String kid) {
+        byte[] iv = new byte[IV_LENGTH];
+        random.nextBytes(iv);
+        try {
+            Cipher cipher = cipher(Cipher.ENCRYPT_MODE, iv, kid);
+            byte[] ciphertext = cipher.doFinal(privateKey);
+            return PREFIX + Base64.getEncoder().encodeToString(
+                    ByteBuffer.allocate(iv.length + ciphertext.length).put(iv).put(ciphertext).array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not encrypt signing key " + kid, e);
+        }
+    }
+
+    public byte[] decrypt(String stored, String kid) {
+        if (!isEncrypted(stored)) {
+            throw new IllegalStateException("Signing key " + kid + " is not encrypted");
+        }
+        byte[] payload = Base64.getDecoder().decode(stored.substring(PREFIX.length()));
+        try {
+            Cipher cipher = cipher(Cipher.DECRYPT_MODE, Arrays.copyOf(payload, IV_LENGTH), kid);
+            return cipher.doFinal(payload, IV_LENGTH, payload.length - IV_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not decrypt signing key " + kid, e);
+        }
+    }
+
+    private Cipher cipher(int mode, byte[] iv, String kid) throws GeneralSecurityException {
+        Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+        cipher.init(mode, keyEncryptionKey, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+        cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+        return cipher;
+    }
+}
@@ -0,0 +1,75 @@
+package az.etaskify.auth.util.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers tokens whose signature has already been verified, keyed by the SHA-256 digest of
+ * the token so raw tokens are never kept in memory.
+ * <p>
+ * An entry lives until the token's own expiry, capped at {@code jwt.verified-cache.max-ttl}.
+ * Once {@code jwt.verified-cache.max-entries} is reached, expired entries are purged and new
+ * tokens are simply not cached until there is room again.
+ */
+@Component
+public class VerifiedTokenCache {
+    private final Map<ByteBuffer, VerifiedToken> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long maxTtlMillis;
+
+    public VerifiedTokenCache(@Value("${jwt.verified-cache.max-entries:100000}") int maxEntries,
+                              @Value("${jwt.verified-cache.max-ttl:5m}") Duration maxTtl) {
+        this.maxEntries = maxEntries;
+        this.maxTtlMillis = maxTtl.toMillis();
+    }
+
+    public Long get(ByteBuffer digest) {
+        VerifiedToken token = entries.get(digest);
+        if (token == null) {
+            return null;
+        }
+        if (token.expiresAtMillis() <= System.currentTimeMillis()) {
+            entries.remove(digest, token);
+            return null;
+        }
+        return token.userId();
+    }
+
+    public void put(ByteBuffer digest, Long userId, Long tokenExpiresAtMillis) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + maxTtlMillis;
+        if (tokenExpiresAtMillis != null) {
+            expiresAt = Math.min(expiresAt, tokenExpiresAtMillis);
+        }
+        if (expiresAt <= now) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(token -> token.expiresAtMillis() <= now);
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        entries.put(digest, new VerifiedToken(userId, expiresAt));
+    }
+
+    public static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record VerifiedToken(Long userId, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,171 @@
+package az.etaskify.auth.service;
+
+import az.etaskify.auth.dao.entity.SigningKeyEntity;
+import az.etaskify.auth.dao.repository.SigningKeyRepository;
+import az.etaskify.auth.dto.JwkDto;
+import az.etaskify.auth.util.jwt.JwtHelper;
+import az.etaskify.auth.util.jwt.PrivateKeyCipher;
+import az.etaskify.auth.util.jwt.VerifiedTokenCache;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class SigningKeyServiceTest {
+    private static final long TOKEN_LIFETIME_MILLIS = 3_600_000;
+    private static final long REFRESH_INTERVAL_MILLIS = 300_000;
+    private static final Duration ROTATION_INTERVAL = Duration.ofDays(7);
+
+    private final List<SigningKeyEntity> rows = new ArrayList<>();
+    private SigningKeyRepository signingKeyRepository;
+    private PrivateKeyCipher privateKeyCipher;
+    private SigningKeyService signingKeyService;
+
+    @BeforeEach
+    void setUp() {
+        signingKeyRepository = mock(SigningKeyRepository.class);
+        when(signingKeyRepository.findPublished(any())).thenAnswer(invocation -> {
+            LocalDateTime retiredAfter = invocation.getArgument(0);
+            return rows.stream()
+                    .filter(row -> row.getRetiredAt() == null || row.getRetiredAt().isAfter(retiredAfter))
+                    .sorted(Comparator.comparing(SigningKeyEntity::getCreatedAt)
+                            .thenComparing(SigningKeyEntity::getId).reversed())
+                    .toList();
+        });
+        when(signingKeyRepository.save(any())).thenAnswer(invocation -> {
+            SigningKeyEntity row = invocation.getArgument(0);
+            row.setId(rows.size() + 1L);
+            rows.add(row);
+            return row;
+        });
+        when(signingKeyRepository.retireAllExcept(anyLong(), any())).thenAnswer(invocation -> {
+            Long currentId = invocation.getArgument(0);
+            LocalDateTime retiredAt = invocation.getArgument(1);
+            rows.stream()
+                    .filter(row -> row.getRetiredAt() == null && !row.getId().equals(currentId))
+                    .forEach(row -> row.setRetiredAt(retiredAt));
+            return 0;
+        });
+        when(signingKeyRepository.deleteRetiredBefore(any())).thenAnswer(invocation -> {
+            LocalDateTime retiredBefore = invocation.getArgument(0);
+            rows.removeIf(row -> row.getRetiredAt() != null && !row.getRetiredAt().isAfter(retiredBefore));
+            return 0;
+        });
+
+        byte[] encryptionKey = new byte[32];
+        new SecureRandom().nextBytes(encryptionKey);
+        privateKeyCipher = new PrivateKeyCipher(Base64.getEncoder().encodeToString(encryptionKey));
+        signingKeyService = newInstance();
+        signingKeyService.init();
+    }
+
+    @Test
+    void firstStartCreatesEncryptedSigningKey() {
+        assertThat(rows).hasSize(1);
+        assertThat(privateKeyCipher.isEncrypted(rows.get(0).getPrivateKey())).isTrue();
+        assertThat(signingKeyService.currentSigningKey().kid()).isEqualTo(rows.get(0).getKid());
+        assertThat(signingKeyService.jwks().keys()).extracting(JwkDto::kid).containsExactly(rows.get(0).getKid());
+    }
+
+    @Test
+    void rotationSignsWithNewKidAndKeepsOldTokensVerifiable() {
+        String oldKid = signingKeyService.currentSigningKey().kid();
+        String oldToken = jwtHelper().tokenGenerate(7L, "a@example.com", "alice", "USER");
+
+        ageCurrentKey();
+        signingKeyService.refresh();
+
+        String newKid = signingKeyService.currentSigningKey().kid();
+        String newToken = jwtHelper().tokenGenerate(8L, "b@example.com", "bob", "USER");
+        assertThat(newKid).isNotEqualTo(oldKid);
+        assertThat(kidOf(newToken)).isEqualTo(newKid);
+        assertThat(signingKeyService.jwks().keys()).extracting(JwkDto::kid).containsExactly(newKid, oldKid);
+
+        JwtHelper verifier = jwtHelper();
+        assertThat(verifier.verifyUserId(oldToken)).contains(7L);
+        assertThat(verifier.verifyUserId(newToken)).contains(8L);
+    }
+
+    @Test
+    void tokenSignedWithRetiredKeyButNamingTheNewKidIsRejected() {
+        SigningKeyService.SigningKey oldKey = signingKeyService.currentSigningKey();
+        ageCurrentKey();
+        signingKeyService.refresh();
+
+        String forged = Jwts.builder()
+                .header().keyId(signingKeyService.currentSigningKey().kid()).and()
+                .subject("7")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(oldKey.privateKey(), Jwts.SIG.RS256)
+                .compact();
+
+        assertThat(jwtHelper().verifyUserId(forged)).isEmpty();
+    }
+
+    @Test
+    void retiredKeyIsUnpublishedAfterItsVerificationWindow() {
+        String oldKid = signingKeyService.currentSigningKey().kid();
+        String oldToken = jwtHelper().tokenGenerate(7L, "a@example.com", "alice", "USER");
+        ageCurrentKey();
+        signingKeyService.refresh();
+
+        rows.stream().filter(row -> row.getKid().equals(oldKid)).forEach(row -> row.setRetiredAt(
+                LocalDateTime.now().minus(Duration.ofMillis(TOKEN_LIFETIME_MILLIS + REFRESH_INTERVAL_MILLIS + 1000))));
+        signingKeyService.refresh();
+
+        assertThat(signingKeyService.jwks().keys()).extracting(JwkDto::kid).doesNotContain(oldKid);
+        assertThat(signingKeyService.findPublicKey(oldKid)).isNull();
+        assertThat(jwtHelper().verifyUserId(oldToken)).isEmpty();
+    }
+
+    @Test
+    void unknownKidFromAnotherInstanceIsResolvedByReloading() {
+        SigningKeyService otherInstance = newInstance();
+        ageCurrentKey();
+        otherInstance.init();
+        String rotatedKid = otherInstance.currentSigningKey().kid();
+
+        String token = Jwts.builder()
+                .header().keyId(rotatedKid).and()
+                .subject("9")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(otherInstance.currentSigningKey().privateKey(), Jwts.SIG.RS256)
+                .compact();
+
+        assertThat(jwtHelper().verifyUserId(token)).contains(9L);
+        assertThat(signingKeyService.findPublicKey("never-issued")).isNull();
+    }
+
+    private SigningKeyService newInstance() {
+        return new SigningKeyService(signingKeyRepository, privateKeyCipher, ROTATION_INTERVAL,
+                TOKEN_LIFETIME_MILLIS, REFRESH_INTERVAL_MILLIS, 2048, Duration.ZERO);
+    }
+
+    private JwtHelper jwtHelper() {
+        return new JwtHelper(TOKEN_LIFETIME_MILLIS, signingKeyService, new VerifiedTokenCache(100, Duration.ofMinutes(5)));
+    }
+
+    private void ageCurrentKey() {
+        rows.stream()
+                .filter(row -> row.getRetiredAt() == null)
+                .forEach(row -> row.setCreatedAt(row.getCreatedAt().minus(ROTATION_INTERVAL).minusMinutes(1)));
+    }
+
+    private static String kidOf(String token) {
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+        return header.replaceAll(".*\"kid\":\"([^\"]+)\".*", "$1");
+    }
+}
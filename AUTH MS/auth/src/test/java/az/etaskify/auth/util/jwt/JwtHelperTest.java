@@ -0,0 +1,99 @@
+package az.etaskify.auth.util.jwt;
+
+import az.etaskify.auth.service.SigningKeyService;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class JwtHelperTest {
+    private static final String KID = "current";
+
+    private static KeyPair keys;
+
+    private SigningKeyService signingKeyService;
+    private VerifiedTokenCache verifiedTokenCache;
+    private JwtHelper jwtHelper;
+
+    @BeforeAll
+    static void generateKeys() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keys = generator.generateKeyPair();
+    }
+
+    @BeforeEach
+    void setUp() {
+        signingKeyService = mock(SigningKeyService.class);
+        when(signingKeyService.currentSigningKey()).thenReturn(new SigningKeyService.SigningKey(KID, keys.getPrivate()));
+        when(signingKeyService.findPublicKey(KID)).thenReturn(keys.getPublic());
+        verifiedTokenCache = new VerifiedTokenCache(100, Duration.ofMinutes(5));
+        jwtHelper = new JwtHelper(60_000L, signingKeyService, verifiedTokenCache);
+    }
+
+    @Test
+    void generatedTokenVerifiesAndDecodes() {
+        String token = jwtHelper.tokenGenerate(7L, "a@example.com", "alice", "USER");
+
+        assertThat(jwtHelper.verifyUserId(token)).contains(7L);
+        assertThat(jwtHelper.tokenByDecoder(token).username()).isEqualTo("alice");
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        JwtHelper expiredIssuer = new JwtHelper(-1000L, signingKeyService, verifiedTokenCache);
+        String token = expiredIssuer.tokenGenerate(7L, "a@example.com", "alice", "USER");
+
+        assertThat(jwtHelper.verifyUserId(token)).isEmpty();
+        assertThat(verifiedTokenCache.get(VerifiedTokenCache.digest(token))).isNull();
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        String token = jwtHelper.tokenGenerate(7L, "a@example.com", "alice", "USER");
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+        String forgedPayload = payload.replace("\"sub\":\"7\"", "\"sub\":\"1\"");
+        assertThat(forgedPayload).isNotEqualTo(payload);
+
+        String tampered = parts[0] + "." + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(forgedPayload.getBytes(StandardCharsets.UTF_8)) + "." + parts[2];
+
+        assertThat(jwtHelper.verifyUserId(tampered)).isEmpty();
+        assertThatThrownBy(() -> jwtHelper.tokenByDecoder(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void unsignedTokenIsRejected() {
+        String unsigned = Jwts.builder()
+                .header().keyId(KID).and()
+                .subject("7")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .compact();
+
+        assertThat(jwtHelper.verifyUserId(unsigned)).isEmpty();
+    }
+
+    @Test
+    void verifiedTokenIsServedFromTheCache() {
+        String token = jwtHelper.tokenGenerate(7L, "a@example.com", "alice", "USER");
+
+        assertThat(jwtHelper.verifyUserId(token)).contains(7L);
+        assertThat(jwtHelper.verifyUserId(token)).contains(7L);
+
+        verify(signingKeyService, times(1)).findPublicKey(KID);
+    }
+}
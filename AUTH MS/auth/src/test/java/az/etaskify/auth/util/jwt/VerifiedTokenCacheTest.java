@@ -0,0 +1,62 @@
+package az.etaskify.auth.util.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+    private static final Long USER_ID = 7L;
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(2, Duration.ofMinutes(5));
+
+    @Test
+    void returnsUserIdForTheSameTokenDigest() {
+        cache.put(VerifiedTokenCache.digest("token"), USER_ID, System.currentTimeMillis() + 60_000);
+
+        assertThat(cache.get(VerifiedTokenCache.digest("token"))).isEqualTo(USER_ID);
+        assertThat(cache.get(VerifiedTokenCache.digest("token2"))).isNull();
+    }
+
+    @Test
+    void expiredEntryIsNotReturned() throws InterruptedException {
+        ByteBuffer digest = VerifiedTokenCache.digest("token");
+        cache.put(digest, USER_ID, System.currentTimeMillis() + 50);
+
+        Thread.sleep(100);
+
+        assertThat(cache.get(digest)).isNull();
+    }
+
+    @Test
+    void alreadyExpiredTokenIsNotCached() {
+        ByteBuffer digest = VerifiedTokenCache.digest("token");
+        cache.put(digest, USER_ID, System.currentTimeMillis() - 1);
+
+        assertThat(cache.get(digest)).isNull();
+    }
+
+    @Test
+    void entryLifetimeIsCappedByMaxTtl() throws InterruptedException {
+        VerifiedTokenCache shortLived = new VerifiedTokenCache(10, Duration.ofMillis(50));
+        ByteBuffer digest = VerifiedTokenCache.digest("token");
+        shortLived.put(digest, USER_ID, System.currentTimeMillis() + 60_000);
+
+        Thread.sleep(100);
+
+        assertThat(shortLived.get(digest)).isNull();
+    }
+
+    @Test
+    void fullCacheSkipsNewTokensUntilEntriesExpire() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        cache.put(VerifiedTokenCache.digest("first"), 1L, expiresAt);
+        cache.put(VerifiedTokenCache.digest("second"), 2L, expiresAt);
+        cache.put(VerifiedTokenCache.digest("third"), 3L, expiresAt);
+
+        assertThat(cache.get(VerifiedTokenCache.digest("first"))).isEqualTo(1L);
+        assertThat(cache.get(VerifiedTokenCache.digest("third"))).isNull();
+    }
+}
@@ -2,10 +2,13 @@ package az.etaskify.client;
 
 import az.etaskify.dto.UserDto;
 import org.springframework.cloud.openfeign.FeignClient;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+import java.util.Set;
 
 @FeignClient(name = "auth-service",url = "${auth.url}")
 public interface AuthClient {
@@ -15,7 +18,10 @@ public interface AuthClient {
     @GetMapping("/user/search/{username}")
     UserDto findUserByUsername(@PathVariable("username") String username);
 
-    @GetMapping("token/validate")
-    ResponseEntity<Long> validateToken(@RequestHeader("Authorization") String token);
+    @PostMapping("user/batch")
+    List<UserDto> findUsersByIds(@RequestBody Set<Long> ids);
+
+    @PostMapping("user/batch/by-username")
+    List<UserDto> findUsersByUsernames(@RequestBody Set<String> usernames);
 
 }
@@ -0,0 +1,11 @@
+package az.etaskify.client;
+
+import az.etaskify.dto.JwkSetDto;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+
+@FeignClient(name = "auth-jwks", url = "${auth.base-url}")
+public interface JwksClient {
+    @GetMapping("/.well-known/jwks.json")
+    JwkSetDto getJwks();
+}
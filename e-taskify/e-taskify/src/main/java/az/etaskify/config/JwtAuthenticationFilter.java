@@ -0,0 +1,91 @@
+package az.etaskify.config;
+
+import az.etaskify.util.jwt.JwtHelper;
+import az.etaskify.util.jwt.VerifiedToken;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Optional;
+
+/**
+ * Resolves the calling user. Requests forwarded by the gateway carry a verified
+ * {@value #GATEWAY_USER_ID_HEADER}, trusted only when {@value #GATEWAY_SECRET_HEADER} matches
+ * {@code gateway.shared-secret}; anything else falls back to verifying the bearer token here.
+ * An empty secret disables the gateway path; a secret that is too short or is the old
+ * placeholder fails startup, since anyone who knows it can act as any user.
+ */
+@Slf4j
+@Component
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    public static final String USER_ID_ATTRIBUTE = "az.etaskify.userId";
+    public static final String GATEWAY_USER_ID_HEADER = "X-User-Id";
+    public static final String GATEWAY_SECRET_HEADER = "X-Gateway-Secret";
+    private static final String PUBLISHED_PLACEHOLDER_SECRET = "change-me-gateway-shared-secret";
+    private static final int MIN_SECRET_LENGTH = 32;
+
+    private final JwtHelper jwtHelper;
+    private final byte[] gatewaySecret;
+
+    public JwtAuthenticationFilter(JwtHelper jwtHelper,
+                                   @Value("${gateway.shared-secret:}") String gatewaySecret) {
+        if (!gatewaySecret.isEmpty()
+                && (gatewaySecret.length() < MIN_SECRET_LENGTH || gatewaySecret.equals(PUBLISHED_PLACEHOLDER_SECRET))) {
+            throw new IllegalStateException("gateway.shared-secret must be empty or a private value of at least "
+                    + MIN_SECRET_LENGTH + " characters");
+        }
+        this.jwtHelper = jwtHelper;
+        this.gatewaySecret = gatewaySecret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Long gatewayUserId = trustedGatewayUserId(request);
+        if (gatewayUserId != null) {
+            request.setAttribute(USER_ID_ATTRIBUTE, gatewayUserId);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || authHeader.isBlank()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Optional<VerifiedToken> token = jwtHelper.verifyAuthHeader(authHeader);
+        if (token.isEmpty()) {
+            log.warn("Rejected request to {} with an invalid or expired token", request.getRequestURI());
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid or expired token");
+            return;
+        }
+
+        request.setAttribute(USER_ID_ATTRIBUTE, token.get().userId());
+        filterChain.doFilter(request, response);
+    }
+
+    private Long trustedGatewayUserId(HttpServletRequest request) {
+        String secret = request.getHeader(GATEWAY_SECRET_HEADER);
+        String userId = request.getHeader(GATEWAY_USER_ID_HEADER);
+        if (gatewaySecret.length == 0 || secret == null || userId == null
+                || !MessageDigest.isEqual(gatewaySecret, secret.getBytes(StandardCharsets.UTF_8))) {
+            return null;
+        }
+        try {
+            return Long.parseLong(userId);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed {} header from gateway: {}", GATEWAY_USER_ID_HEADER, userId);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package az.etaskify.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.ExchangeBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "notification.broker", havingValue = "rabbit", matchIfMissing = true)
+public class NotificationAmqpConfig {
+    public static final String NOTIFICATION_QUEUE = "etaskify.notifications";
+    public static final String NOTIFICATION_DEAD_LETTER_EXCHANGE = "etaskify.notifications.dlx";
+    public static final String NOTIFICATION_DEAD_LETTER_QUEUE = "etaskify.notifications.dlq";
+    public static final String BATCH_LISTENER_FACTORY = "notificationBatchListenerFactory";
+
+    /**
+     * Batches rejected after the listener retries are routed to
+     * {@value #NOTIFICATION_DEAD_LETTER_QUEUE} instead of being dropped.
+     */
+    @Bean
+    public Queue notificationQueue() {
+        return QueueBuilder.durable(NOTIFICATION_QUEUE)
+                .deadLetterExchange(NOTIFICATION_DEAD_LETTER_EXCHANGE)
+                .deadLetterRoutingKey(NOTIFICATION_DEAD_LETTER_QUEUE)
+                .build();
+    }
+
+    @Bean
+    public DirectExchange notificationDeadLetterExchange() {
+        return ExchangeBuilder.directExchange(NOTIFICATION_DEAD_LETTER_EXCHANGE).durable(true).build();
+    }
+
+    @Bean
+    public Queue notificationDeadLetterQueue() {
+        return QueueBuilder.durable(NOTIFICATION_DEAD_LETTER_QUEUE).build();
+    }
+
+    @Bean
+    public Binding notificationDeadLetterBinding() {
+        return BindingBuilder.bind(notificationDeadLetterQueue())
+                .to(notificationDeadLetterExchange())
+                .with(NOTIFICATION_DEAD_LETTER_QUEUE);
+    }
+
+    @Bean
+    public MessageConverter jsonMessageConverter(ObjectMapper objectMapper) {
+        return new Jackson2JsonMessageConverter(objectMapper);
+    }
+
+    @Bean(BATCH_LISTENER_FACTORY)
+    public SimpleRabbitListenerContainerFactory notificationBatchListenerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${notification.consumer.batch-size:100}") int batchSize) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setPrefetchCount(batchSize);
+        factory.setReceiveTimeout(1000L);
+        return factory;
+    }
+}
@@ -0,0 +1,26 @@
+package az.etaskify.config;
+
+import az.etaskify.service.MembershipIndexService;
+import az.etaskify.service.NotificationStreamService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       MembershipIndexService membershipIndexService,
+                                                                       NotificationStreamService notificationStreamService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(membershipIndexService,
+                new ChannelTopic(MembershipIndexService.INVALIDATION_CHANNEL));
+        container.addMessageListener(notificationStreamService,
+                new ChannelTopic(NotificationStreamService.PUSH_CHANNEL));
+        return container;
+    }
+}
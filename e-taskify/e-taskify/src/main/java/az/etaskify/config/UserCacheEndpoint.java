@@ -0,0 +1,24 @@
+package az.etaskify.config;
+
+import az.etaskify.dto.CacheStatsDto;
+import az.etaskify.service.UserLookupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * User lookup cache statistics at {@code /actuator/usercache}. Served on the management port, which
+ * the gateway does not route, so it is reachable only from the internal network.
+ */
+@Component
+@Endpoint(id = "usercache")
+@RequiredArgsConstructor
+public class UserCacheEndpoint {
+    private final UserLookupService userLookupService;
+
+    @ReadOperation
+    public CacheStatsDto stats() {
+        return userLookupService.getStats();
+    }
+}
@@ -0,0 +1,70 @@
+package az.etaskify.controller;
+
+import az.etaskify.config.JwtAuthenticationFilter;
+import az.etaskify.dto.CursorPageResponseDto;
+import az.etaskify.dto.NotificationDto;
+import az.etaskify.dto.StreamTicketDto;
+import az.etaskify.dto.UnreadCountDto;
+import az.etaskify.service.NotificationInboxService;
+import az.etaskify.service.NotificationStreamService;
+import az.etaskify.service.StreamTicketService;
+import az.etaskify.util.annotation.CurrentUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Locale;
+
+@RestController
+@RequestMapping("api/v1/notifications")
+@RequiredArgsConstructor
+public class NotificationController {
+    private final NotificationInboxService notificationInboxService;
+    private final NotificationStreamService notificationStreamService;
+    private final StreamTicketService streamTicketService;
+
+    @GetMapping
+    public CursorPageResponseDto<NotificationDto> listInbox(@RequestParam(value = "cursor", required = false) String cursor,
+                                                            @RequestParam(value = "size", required = false) Integer size,
+                                                            @CurrentUser Long currentUserId) {
+        return notificationInboxService.listInbox(currentUserId, cursor, size);
+    }
+
+    @PostMapping("/stream-ticket")
+    public StreamTicketDto streamTicket(@CurrentUser Long currentUserId) {
+        return streamTicketService.issue(currentUserId);
+    }
+
+    /**
+     * Opens the caller's notification stream. Clients that can set headers (a fetch-based SSE
+     * reader) authenticate with the bearer token as usual; a browser {@code EventSource} first
+     * calls {@code POST /stream-ticket} and then opens {@code /stream?ticket=<ticket>}. Pushed
+     * notifications are rendered in the locale of this request.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam(value = "ticket", required = false) String ticket,
+                             @RequestAttribute(name = JwtAuthenticationFilter.USER_ID_ATTRIBUTE, required = false)
+                             Long currentUserId,
+                             Locale locale) {
+        Long userId = ticket != null ? streamTicketService.redeem(ticket) : currentUserId;
+        if (userId == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "A bearer token or a valid stream ticket is required");
+        }
+        return notificationStreamService.subscribe(userId, locale);
+    }
+
+    @GetMapping("/unread-count")
+    public UnreadCountDto unreadCount(@CurrentUser Long currentUserId) {
+        return notificationInboxService.getUnreadCount(currentUserId);
+    }
+
+    @PostMapping("/mark-all-read")
+    public ResponseEntity<Void> markAllRead(@CurrentUser Long currentUserId) {
+        notificationInboxService.markAllRead(currentUserId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -2,6 +2,8 @@ package az.etaskify.controller;
 
 import az.etaskify.dto.*;
 import az.etaskify.service.OrganizationService;
+import az.etaskify.util.annotation.CurrentUser;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,48 +19,79 @@ public class OrganizationController {
     private final OrganizationService organizationService;
 
     @PostMapping("/create")
-    public ResponseEntity<String> createOrg(@RequestBody OrganizationCreateRequest dto, @RequestHeader("Authorization") String authHeader) {
-        return organizationService.createOrganization(dto, authHeader);
+    public ResponseEntity<String> createOrg(@RequestBody OrganizationCreateRequest dto, @CurrentUser Long currentUserId) {
+        return organizationService.createOrganization(dto, currentUserId);
     }
     @PostMapping("/invite-org/{id}")
-    public InviteResponseDto inviteUserToOrganization(@PathVariable("id") Long organizationId,@RequestBody InviteUserRequestDto requestDto,@RequestHeader("Authorization") String authHeader) throws ServiceUnavailableException {
-        return organizationService.inviteUserToOrganization(organizationId,requestDto,authHeader);
+    public InviteResponseDto inviteUserToOrganization(@PathVariable("id") Long organizationId,@RequestBody InviteUserRequestDto requestDto,@CurrentUser Long currentUserId) throws ServiceUnavailableException {
+        return organizationService.inviteUserToOrganization(organizationId,requestDto,currentUserId);
+    }
+    @PostMapping("/invite-org/{id}/bulk")
+    public BulkInviteResultDto inviteUsersToOrganization(@PathVariable("id") Long organizationId,
+                                                         @Valid @RequestBody BulkInviteRequestDto requestDto,
+                                                         @CurrentUser Long currentUserId) throws ServiceUnavailableException {
+        return organizationService.inviteUsersToOrganization(organizationId,requestDto,currentUserId);
     }
     @GetMapping("show-invite")
-    public List<InviteResponseDto> showAllPendingInvite(@RequestHeader("Authorization") String authHeader){
-        return organizationService.listMyPendingInvites(authHeader);
+    public List<InviteResponseDto> showAllPendingInvite(@CurrentUser Long currentUserId){
+        return organizationService.listMyPendingInvites(currentUserId);
     }
 
     @PostMapping("accept-invite/{id}")
-    public InviteResponseDto acceptInvite(@PathVariable("id") Long inviteId,@RequestHeader("Authorization") String authHeader) throws AccessDeniedException {
-        return organizationService.acceptInvite(inviteId,authHeader);
+    public InviteResponseDto acceptInvite(@PathVariable("id") Long inviteId,@CurrentUser Long currentUserId) throws AccessDeniedException {
+        return organizationService.acceptInvite(inviteId,currentUserId);
     }
 
     @PostMapping("rejected-invite/{id}")
-    public InviteResponseDto rejectInvite(@PathVariable("id") Long inviteId,@RequestHeader("Authorization") String authHeader) throws AccessDeniedException {
-        return organizationService.rejectInvite(inviteId,authHeader);
+    public InviteResponseDto rejectInvite(@PathVariable("id") Long inviteId,@CurrentUser Long currentUserId) throws AccessDeniedException {
+        return organizationService.rejectInvite(inviteId,currentUserId);
     }
 
     @GetMapping("/search")
-    public List<PublicOrganizationDto> findPublicOrganizations(@RequestParam("team") String search){
-        return organizationService.findPublicOrganizations(search);
+    public PageResponseDto<PublicOrganizationDto> findPublicOrganizations(@RequestParam(value = "team", required = false) String search,
+                                                                          @RequestParam(value = "page", required = false) Integer page,
+                                                                          @RequestParam(value = "size", required = false) Integer size){
+        return organizationService.findPublicOrganizations(search, page, size);
+    }
+
+    @GetMapping("/search/autocomplete")
+    public List<PublicOrganizationDto> autocompletePublicOrganizations(@RequestParam("prefix") String prefix,
+                                                                       @RequestParam(value = "limit", required = false) Integer limit){
+        return organizationService.autocompletePublicOrganizations(prefix, limit);
     }
     @PostMapping("/invite-org-public/{id}")
-    public JoinRequestDto requestToJoinOrganization(@PathVariable("id") Long organizationId,@RequestHeader("Authorization") String authHeader) {
-        return organizationService.requestToJoinOrganization(organizationId,authHeader);
+    public JoinRequestDto requestToJoinOrganization(@PathVariable("id") Long organizationId,@CurrentUser Long currentUserId) {
+        return organizationService.requestToJoinOrganization(organizationId,currentUserId);
     }
     @GetMapping("/invite-join/{id}")
-    public List<JoinRequestDto> listPendingJoinRequests(@PathVariable("id") Long organizationId,@RequestHeader("Authorization") String authHeader) {
-        return organizationService.listPendingJoinRequests(organizationId,authHeader);
+    public CursorPageResponseDto<JoinRequestDto> listPendingJoinRequests(@PathVariable("id") Long organizationId,
+                                                                         @RequestParam(value = "cursor", required = false) String cursor,
+                                                                         @RequestParam(value = "size", required = false) Integer size,
+                                                                         @CurrentUser Long currentUserId) {
+        return organizationService.listPendingJoinRequests(organizationId,cursor,size,currentUserId);
     }
 
     @PostMapping("join-accept-invite/{id}")
-    public JoinRequestDto approveJoinRequest(@PathVariable("id") Long requestId,@RequestHeader("Authorization") String authHeader){
-        return organizationService.approveJoinRequest(requestId,authHeader);
+    public JoinRequestDto approveJoinRequest(@PathVariable("id") Long requestId,@CurrentUser Long currentUserId){
+        return organizationService.approveJoinRequest(requestId,currentUserId);
+    }
+
+    @PostMapping("/invite-join/{id}/approve")
+    public JoinRequestBulkDecisionResultDto approveJoinRequests(@PathVariable("id") Long organizationId,
+                                                                @Valid @RequestBody JoinRequestBulkDecisionRequestDto requestDto,
+                                                                @CurrentUser Long currentUserId){
+        return organizationService.approveJoinRequests(organizationId,requestDto.requestIds(),currentUserId);
+    }
+
+    @PostMapping("/invite-join/{id}/reject")
+    public JoinRequestBulkDecisionResultDto rejectJoinRequests(@PathVariable("id") Long organizationId,
+                                                               @Valid @RequestBody JoinRequestBulkDecisionRequestDto requestDto,
+                                                               @CurrentUser Long currentUserId){
+        return organizationService.rejectJoinRequests(organizationId,requestDto.requestIds(),currentUserId);
     }
 
     @PostMapping("join-rejected-invite/{id}")
-    public JoinRequestDto rejectJoinRequest(@PathVariable("id") Long requestId,@RequestHeader("Authorization") String authHeader){
-        return organizationService.rejectJoinRequest(requestId,authHeader);
+    public JoinRequestDto rejectJoinRequest(@PathVariable("id") Long requestId,@CurrentUser Long currentUserId){
+        return organizationService.rejectJoinRequest(requestId,currentUserId);
     }
 }
@@ -1,18 +1,28 @@
 package az.etaskify.controller;
 
+import az.etaskify.dto.CursorPageResponseDto;
+import az.etaskify.dto.PageResponseDto;
+import az.etaskify.dto.TaskBulkCreateRequestDto;
 import az.etaskify.dto.TaskCreateRequestDto;
 import az.etaskify.dto.TaskResponseDto;
 import az.etaskify.dto.TaskUpdateRequestDto;
 import az.etaskify.service.TaskService;
+import az.etaskify.util.annotation.CurrentUser;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid; // Jakarta EE 9+ için
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.nio.file.AccessDeniedException;
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -23,52 +33,98 @@ public class TaskController {
 
     private final TaskService taskService;
 
+    @Value("${task.export.timeout:10m}")
+    private Duration exportTimeout;
+
     @PostMapping
     public ResponseEntity<TaskResponseDto> createTask(
             @PathVariable Long organizationId,
             @Valid @RequestBody TaskCreateRequestDto taskCreateRequestDto,
-            @RequestHeader("Authorization") String authHeader) {
-        TaskResponseDto createdTask = taskService.createTask(organizationId, taskCreateRequestDto, authHeader);
+            @CurrentUser Long currentUserId) {
+        TaskResponseDto createdTask = taskService.createTask(organizationId, taskCreateRequestDto, currentUserId);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
     }
 
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<TaskResponseDto>> createTasks(
+            @PathVariable Long organizationId,
+            @Valid @RequestBody TaskBulkCreateRequestDto taskBulkCreateRequestDto,
+            @CurrentUser Long currentUserId) {
+        List<TaskResponseDto> createdTasks = taskService.createTasks(organizationId, taskBulkCreateRequestDto, currentUserId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdTasks);
+    }
+
+
     @GetMapping("/{taskId}")
     public ResponseEntity<TaskResponseDto> getTaskById(
             @PathVariable Long organizationId,
             @PathVariable Long taskId,
-            @RequestHeader("Authorization")String authHeader) throws AccessDeniedException {
+            @CurrentUser Long currentUserId) throws AccessDeniedException {
         log.info("API Request: Get task by ID: {} in Organization ID: {}", taskId, organizationId);
-        TaskResponseDto task = taskService.getTaskById(taskId, authHeader);
+        TaskResponseDto task = taskService.getTaskById(taskId, currentUserId);
         return ResponseEntity.ok(task);
     }
 
 
     @GetMapping
-    public ResponseEntity<List<TaskResponseDto>> listVisibleTasksForOrganization(
+    public ResponseEntity<CursorPageResponseDto<TaskResponseDto>> listVisibleTasksForOrganization(
             @PathVariable Long organizationId,
-            @RequestHeader("Authorization") String authHeader) {
-        List<TaskResponseDto> tasks = taskService.listVisibleTasksForOrganization(organizationId, authHeader);
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @CurrentUser Long currentUserId) {
+        CursorPageResponseDto<TaskResponseDto> tasks = taskService.listVisibleTasksForOrganization(organizationId, cursor, size, currentUserId);
         return ResponseEntity.ok(tasks);
     }
 
 
     @GetMapping("/assigned-to-me")
-    public ResponseEntity<List<TaskResponseDto>> listMyAssignedTasks(
+    public ResponseEntity<CursorPageResponseDto<TaskResponseDto>> listMyAssignedTasks(
+            @PathVariable Long organizationId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @CurrentUser Long currentUserId) {
+        CursorPageResponseDto<TaskResponseDto> tasks = taskService.listMyAssignedTasks(organizationId, cursor, size, currentUserId);
+        return ResponseEntity.ok(tasks);
+    }
+
+
+    @GetMapping("/search")
+    public ResponseEntity<PageResponseDto<TaskResponseDto>> searchTasks(
             @PathVariable Long organizationId,
-            @RequestHeader("Authorization") String authHeader) {
-        List<TaskResponseDto> tasks = taskService.listMyAssignedTasks(organizationId, authHeader);
+            @RequestParam("q") String query,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size,
+            @CurrentUser Long currentUserId) {
+        PageResponseDto<TaskResponseDto> tasks = taskService.searchTasks(organizationId, query, page, size, currentUserId);
         return ResponseEntity.ok(tasks);
     }
 
 
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @PathVariable Long organizationId,
+            @CurrentUser Long currentUserId,
+            HttpServletRequest request) {
+        taskService.requireMembership(organizationId, currentUserId);
+        // Large exports outlive the default async timeout; raise it for this request only.
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(exportTimeout.toMillis());
+        StreamingResponseBody body = outputStream ->
+                taskService.exportVisibleTasks(organizationId, currentUserId, outputStream);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"organization-" + organizationId + "-tasks.ndjson\"")
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+
     @PutMapping("/{taskId}")
     public ResponseEntity<TaskResponseDto> updateTask(
             @PathVariable Long organizationId,
             @PathVariable Long taskId,
             @Valid @RequestBody TaskUpdateRequestDto taskUpdateRequestDto,
-            @RequestHeader("Authorization") String authHeader) throws AccessDeniedException {
-        TaskResponseDto updatedTask = taskService.updateTask(taskId, organizationId, taskUpdateRequestDto, authHeader);
+            @CurrentUser Long currentUserId) throws AccessDeniedException {
+        TaskResponseDto updatedTask = taskService.updateTask(taskId, organizationId, taskUpdateRequestDto, currentUserId);
         return ResponseEntity.ok(updatedTask);
     }
 
@@ -76,8 +132,8 @@ public class TaskController {
     public ResponseEntity<Void> deleteTask(
             @PathVariable Long organizationId,
             @PathVariable Long taskId,
-            @RequestHeader("Authorization") String authHeader) throws AccessDeniedException {
-        taskService.deleteTask(taskId, organizationId, authHeader);
+            @CurrentUser Long currentUserId) throws AccessDeniedException {
+        taskService.deleteTask(taskId, organizationId, currentUserId);
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class InviteEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "invite_seq")
+    @SequenceGenerator(name = "invite_seq", sequenceName = "invite_seq", allocationSize = 50)
     Long id;
     @Column(name = "inviter_user_id", nullable = false)
     Long inviterUserId;
@@ -30,4 +31,6 @@ public class InviteEntity {
     OrganizationEntity organization;
     @CreationTimestamp
     LocalDateTime createdAt;
+    @Column(name = "expires_at")
+    LocalDateTime expiresAt;
 }
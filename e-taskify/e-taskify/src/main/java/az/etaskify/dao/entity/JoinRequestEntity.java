@@ -28,5 +28,7 @@ public class JoinRequestEntity {
     InviteStatus status;
     @CreationTimestamp
     LocalDateTime createdAt;
+    @Column(name = "expires_at")
+    LocalDateTime expiresAt;
 
 }
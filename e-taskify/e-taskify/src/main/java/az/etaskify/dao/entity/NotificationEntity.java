@@ -17,11 +17,22 @@ import java.time.LocalDateTime;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class NotificationEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+    @SequenceGenerator(name = "notification_seq", sequenceName = "notification_seq", allocationSize = 50)
     Long id;
     @Column(name = "user_id",nullable = false)
     Long userId;
+    /**
+     * Pre-rendered text of notifications written before templates were introduced; null for
+     * newer rows, which are rendered from {@link #type} on read.
+     */
     String message;
+    @Column(name = "actor_user_id")
+    Long actorUserId;
+    @Column(name = "organization_id")
+    Long organizationId;
+    @Column(name = "aggregate_count", nullable = false)
+    Integer aggregateCount;
     @Column(nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
     Boolean isRead;
     @Enumerated(EnumType.STRING)
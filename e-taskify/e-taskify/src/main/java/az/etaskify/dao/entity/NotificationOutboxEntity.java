@@ -0,0 +1,37 @@
+package az.etaskify.dao.entity;
+
+import az.etaskify.util.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "notification_outbox")
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class NotificationOutboxEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_outbox_seq")
+    @SequenceGenerator(name = "notification_outbox_seq", sequenceName = "notification_outbox_seq", allocationSize = 50)
+    Long id;
+    @Column(nullable = false, columnDefinition = "TEXT")
+    String payload;
+    @Column(name = "coalesce_key")
+    String coalesceKey;
+    @Column(name = "available_at", nullable = false)
+    LocalDateTime availableAt;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    OutboxStatus status = OutboxStatus.PENDING;
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    String lastError;
+    @CreationTimestamp
+    LocalDateTime createdAt;
+}
@@ -13,9 +13,10 @@ import lombok.experimental.FieldDefaults;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class TaskAssigneeEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_assignee_seq")
+    @SequenceGenerator(name = "task_assignee_seq", sequenceName = "task_assignee_seq", allocationSize = 50)
     Long id;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id",nullable = false)
     TaskEntity taskEntity;
     @Column(name = "user_id",nullable = false)
@@ -19,14 +19,15 @@ import java.time.LocalDateTime;
 
 public class TaskEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
     Long id;
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "organization_id", nullable = false)
     OrganizationEntity organization;
     String title;
     String description;
-    @Column(name = "user_id",nullable = false)
+    @Column(name = "created_by",nullable = false)
     Long createdBy;
     @Enumerated(EnumType.STRING)
     VisibilityStatus visibility;
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class UserOrganizationEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_organization_seq")
+    @SequenceGenerator(name = "user_organization_seq", sequenceName = "user_organization_seq", allocationSize = 50)
     Long id;
     @Column(name = "user_id", nullable = false)
     Long userId;
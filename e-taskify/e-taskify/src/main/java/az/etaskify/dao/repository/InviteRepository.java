@@ -2,15 +2,87 @@ package az.etaskify.dao.repository;
 
 import az.etaskify.dao.entity.InviteEntity;
 import az.etaskify.util.enums.InviteStatus;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface InviteRepository extends JpaRepository<InviteEntity,Long> {
-    boolean existsByOrganizationIdAndInvitedUserIdAndStatus(Long organizationId, Long organizationId1, InviteStatus status);
-    List<InviteEntity> findByInvitedUserIdAndStatusOrderByCreatedAtDesc(Long invitedUserId, InviteStatus status);
+    @Query("SELECT i FROM InviteEntity i WHERE i.invitedUserId = :invitedUserId AND i.status = :status " +
+            "AND (i.expiresAt IS NULL OR i.expiresAt > :now) ORDER BY i.createdAt DESC")
+    List<InviteEntity> findUnexpiredByInvitedUserIdAndStatus(@Param("invitedUserId") Long invitedUserId,
+                                                             @Param("status") InviteStatus status,
+                                                             @Param("now") LocalDateTime now);
     Optional<InviteEntity> findByIdAndInvitedUserId(Long id, Long invitedUserId);
+
+    /**
+     * Expires up to {@code limit} overdue pending rows in one short transaction, skipping rows
+     * locked by others. Returns the number of rows expired.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE invite SET status = 'EXPIRED' WHERE id IN (" +
+            "SELECT id FROM invite WHERE status = 'PENDING' AND expires_at <= :now " +
+            "ORDER BY expires_at LIMIT :limit FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int expirePending(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Inserts a pending invite in one statement unless the user already has one in the organization.
+     * Returns empty when the partial unique index on pending invites reports a conflict. The id is
+     * taken straight from {@code invite_seq}; that value is never handed out by Hibernate's pooled
+     * allocator, so the two cannot collide.
+     */
+    @Transactional
+    @Query(value = "INSERT INTO invite (id, organization_id, invited_user_id, inviter_user_id, status, created_at, expires_at) " +
+            "VALUES (nextval('invite_seq'), :organizationId, :invitedUserId, :inviterUserId, 'PENDING', :createdAt, :expiresAt) " +
+            "ON CONFLICT (organization_id, invited_user_id) WHERE status = 'PENDING' DO NOTHING " +
+            "RETURNING *", nativeQuery = true)
+    Optional<InviteEntity> insertPendingIfAbsent(@Param("organizationId") Long organizationId,
+                                                 @Param("invitedUserId") Long invitedUserId,
+                                                 @Param("inviterUserId") Long inviterUserId,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Multi-row variant of {@link #insertPendingIfAbsent}: inserts a pending invite for each user
+     * in input order and returns only the rows that were inserted; users that already have a
+     * pending invite in the organization are skipped by the partial unique index.
+     */
+    @Transactional
+    @Query(value = "INSERT INTO invite (id, organization_id, invited_user_id, inviter_user_id, status, created_at, expires_at) " +
+            "SELECT nextval('invite_seq'), :organizationId, u.invited_user_id, :inviterUserId, 'PENDING', :createdAt, :expiresAt " +
+            "FROM unnest(:invitedUserIds) WITH ORDINALITY AS u(invited_user_id, ordinal) ORDER BY u.ordinal " +
+            "ON CONFLICT (organization_id, invited_user_id) WHERE status = 'PENDING' DO NOTHING " +
+            "RETURNING *", nativeQuery = true)
+    List<InviteEntity> insertAllPendingIfAbsent(@Param("organizationId") Long organizationId,
+                                                @Param("invitedUserIds") Long[] invitedUserIds,
+                                                @Param("inviterUserId") Long inviterUserId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Expires the user's pending invite if it is overdue but not yet swept, so a new one can take its place.
+     */
+    @Modifying
+    @Query("UPDATE InviteEntity i SET i.status = az.etaskify.util.enums.InviteStatus.EXPIRED " +
+            "WHERE i.organization.id = :organizationId AND i.invitedUserId = :invitedUserId " +
+            "AND i.status = az.etaskify.util.enums.InviteStatus.PENDING AND i.expiresAt <= :now")
+    int expireOverduePending(@Param("organizationId") Long organizationId, @Param("invitedUserId") Long invitedUserId,
+                             @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE InviteEntity i SET i.status = az.etaskify.util.enums.InviteStatus.EXPIRED " +
+            "WHERE i.organization.id = :organizationId AND i.invitedUserId IN :invitedUserIds " +
+            "AND i.status = az.etaskify.util.enums.InviteStatus.PENDING AND i.expiresAt <= :now")
+    int expireOverduePending(@Param("organizationId") Long organizationId,
+                             @Param("invitedUserIds") Collection<Long> invitedUserIds,
+                             @Param("now") LocalDateTime now);
 }
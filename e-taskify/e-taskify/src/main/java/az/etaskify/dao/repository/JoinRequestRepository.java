@@ -2,15 +2,93 @@ package az.etaskify.dao.repository;
 
 import az.etaskify.dao.entity.JoinRequestEntity;
 import az.etaskify.util.enums.InviteStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface JoinRequestRepository extends JpaRepository<JoinRequestEntity,Long> {
-    boolean existsByOrganizationIdAndUserIdAndStatus(Long organizationId, Long userId, InviteStatus status);
-    List<JoinRequestEntity> findByOrganizationIdAndStatus(Long organizationId, InviteStatus status);
+    String BY_ORGANIZATION_AND_STATUS = "SELECT jr FROM JoinRequestEntity jr " +
+            "WHERE jr.organization.id = :organizationId AND jr.status = :status " +
+            "AND (jr.expiresAt IS NULL OR jr.expiresAt > :now) ";
+    String AFTER_CURSOR = "AND (jr.createdAt > :createdAt OR (jr.createdAt = :createdAt AND jr.id > :id)) ";
+    String OLDEST_FIRST = "ORDER BY jr.createdAt ASC, jr.id ASC";
+
+    @Query(BY_ORGANIZATION_AND_STATUS + OLDEST_FIRST)
+    List<JoinRequestEntity> findUnexpiredByOrganizationIdAndStatus(@Param("organizationId") Long organizationId,
+                                                                   @Param("status") InviteStatus status,
+                                                                   @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query(BY_ORGANIZATION_AND_STATUS + AFTER_CURSOR + OLDEST_FIRST)
+    List<JoinRequestEntity> findUnexpiredByOrganizationIdAndStatusAfter(@Param("organizationId") Long organizationId,
+                                                                        @Param("status") InviteStatus status,
+                                                                        @Param("now") LocalDateTime now,
+                                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                                        @Param("id") Long id, Pageable pageable);
+
     Optional<JoinRequestEntity> findByIdAndStatus(Long id, InviteStatus status);
+
+    /**
+     * Loads and row-locks the given unexpired requests of one organization that are still in
+     * {@code status}, so a concurrent decision on the same requests waits instead of
+     * double-processing them.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT jr FROM JoinRequestEntity jr WHERE jr.id IN :ids " +
+            "AND jr.organization.id = :organizationId AND jr.status = :status " +
+            "AND (jr.expiresAt IS NULL OR jr.expiresAt > :now)")
+    List<JoinRequestEntity> lockByIdsAndOrganizationIdAndStatus(@Param("ids") Collection<Long> ids,
+                                                                @Param("organizationId") Long organizationId,
+                                                                @Param("status") InviteStatus status,
+                                                                @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE JoinRequestEntity jr SET jr.status = :status WHERE jr.id IN :ids")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids, @Param("status") InviteStatus status);
+
+    /**
+     * Expires up to {@code limit} overdue pending rows in one short transaction, skipping rows
+     * locked by others. Returns the number of rows expired.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE join_request SET status = 'EXPIRED' WHERE id IN (" +
+            "SELECT id FROM join_request WHERE status = 'PENDING' AND expires_at <= :now " +
+            "ORDER BY expires_at LIMIT :limit FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int expirePending(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Inserts a pending join request in one statement unless the user already has one for the
+     * organization. Returns empty when the partial unique index on pending requests reports a conflict.
+     */
+    @Transactional
+    @Query(value = "INSERT INTO join_request (organization_id, user_id, status, created_at, expires_at) " +
+            "VALUES (:organizationId, :userId, 'PENDING', :createdAt, :expiresAt) " +
+            "ON CONFLICT (organization_id, user_id) WHERE status = 'PENDING' DO NOTHING " +
+            "RETURNING *", nativeQuery = true)
+    Optional<JoinRequestEntity> insertPendingIfAbsent(@Param("organizationId") Long organizationId,
+                                                      @Param("userId") Long userId,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Expires the user's pending request if it is overdue but not yet swept, so a new one can take its place.
+     */
+    @Modifying
+    @Query("UPDATE JoinRequestEntity jr SET jr.status = az.etaskify.util.enums.InviteStatus.EXPIRED " +
+            "WHERE jr.organization.id = :organizationId AND jr.userId = :userId " +
+            "AND jr.status = az.etaskify.util.enums.InviteStatus.PENDING AND jr.expiresAt <= :now")
+    int expireOverduePending(@Param("organizationId") Long organizationId, @Param("userId") Long userId,
+                             @Param("now") LocalDateTime now);
 }
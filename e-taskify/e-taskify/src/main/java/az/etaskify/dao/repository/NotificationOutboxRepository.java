@@ -0,0 +1,31 @@
+package az.etaskify.dao.repository;
+
+import az.etaskify.dao.entity.NotificationOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutboxEntity, Long> {
+
+    /**
+     * Oldest pending entries that are due, locked for the calling transaction. Rows already locked by
+     * another relay are skipped, so several instances can drain the outbox side by side.
+     */
+    @Query(value = "SELECT * FROM notification_outbox WHERE status = 'PENDING' AND available_at <= :now " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationOutboxEntity> lockNextBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * All pending entries waiting under the given coalesce keys, due or not, so they can be merged into
+     * the ones being relayed.
+     */
+    @Query(value = "SELECT * FROM notification_outbox WHERE status = 'PENDING' AND coalesce_key IN (:keys) " +
+            "ORDER BY id FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NotificationOutboxEntity> lockByCoalesceKeys(@Param("keys") Collection<String> keys);
+}
@@ -1,9 +1,33 @@
 package az.etaskify.dao.repository;
 
 import az.etaskify.dao.entity.NotificationEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface NotificationRepository extends JpaRepository<NotificationEntity,Long> {
+
+    String INBOX = "SELECT n FROM NotificationEntity n WHERE n.userId = :userId ";
+    String AFTER_CURSOR = "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) ";
+    String NEWEST_FIRST = "ORDER BY n.createdAt DESC, n.id DESC";
+
+    @Query(INBOX + NEWEST_FIRST)
+    List<NotificationEntity> findInbox(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(INBOX + AFTER_CURSOR + NEWEST_FIRST)
+    List<NotificationEntity> findInboxAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id, Pageable pageable);
+
+    long countByUserIdAndIsReadFalse(Long userId);
+
+    @Modifying
+    @Query("UPDATE NotificationEntity n SET n.isRead = true WHERE n.userId = :userId AND n.isRead = false")
+    int markAllRead(@Param("userId") Long userId);
 }
@@ -1,13 +1,38 @@
 package az.etaskify.dao.repository;
 
 import az.etaskify.dao.entity.OrganizationEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface OrganizationRepository extends JpaRepository<OrganizationEntity, Long> {
-    List<OrganizationEntity> findByNameContainingIgnoreCaseAndIsPrivateFalse(String name);
-    List<OrganizationEntity> findByIsPrivateFalse();
+    Slice<OrganizationEntity> findByIsPrivateFalseOrderByIdAsc(Pageable pageable);
+
+    /**
+     * Public organizations whose name contains {@code pattern}, best trigram matches first.
+     * The {@code lower(name) LIKE} predicate is served by idx_organization_public_name_trgm.
+     */
+    @Query(value = "SELECT o.* FROM organization o " +
+            "WHERE o.is_private = false AND lower(o.name) LIKE :pattern ESCAPE '\\' " +
+            "ORDER BY similarity(lower(o.name), :term) DESC, o.id " +
+            "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<OrganizationEntity> searchPublicByName(@Param("term") String term, @Param("pattern") String pattern,
+                                                @Param("limit") int limit, @Param("offset") int offset);
+
+    /**
+     * Top public organizations whose name starts with the given prefix pattern; shorter names
+     * rank first, since they are closer to what has been typed so far.
+     */
+    @Query(value = "SELECT o.* FROM organization o " +
+            "WHERE o.is_private = false AND lower(o.name) LIKE :pattern ESCAPE '\\' " +
+            "ORDER BY similarity(lower(o.name), :term) DESC, length(o.name), o.id " +
+            "LIMIT :limit", nativeQuery = true)
+    List<OrganizationEntity> autocompletePublicByName(@Param("term") String term, @Param("pattern") String pattern,
+                                                      @Param("limit") int limit);
 }
@@ -1,12 +1,14 @@
 package az.etaskify.dao.repository;
 
 import az.etaskify.dao.entity.TaskAssigneeEntity;
-import feign.Param;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional; // Eğer deleteBy... kullanıyorsak
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,13 +20,25 @@ public interface TaskAssigneeRepository extends JpaRepository<TaskAssigneeEntity
 
     List<TaskAssigneeEntity> findByTaskEntityId(Long taskId);
 
-    boolean existsByTaskEntityIdAndUserId(Long taskId, Long userId);
+    /**
+     * Assignees of the given tasks in one statement. The task association is left as a proxy:
+     * callers already hold the tasks and only need {@code taskEntity.id} to group the rows.
+     */
+    @Query("SELECT ta FROM TaskAssigneeEntity ta WHERE ta.taskEntity.id IN :taskIds")
+    List<TaskAssigneeEntity> findByTaskIds(@Param("taskIds") Collection<Long> taskIds);
 
-    List<TaskAssigneeEntity> findByUserId(Long userId);
+    boolean existsByTaskEntityIdAndUserId(Long taskId, Long userId);
 
     @Transactional
     void deleteByTaskEntityIdAndUserId(Long taskId, Long userId);
 
     @Transactional
-    void deleteByTaskEntityId(Long taskId);
+    @Modifying
+    @Query("DELETE FROM TaskAssigneeEntity ta WHERE ta.taskEntity.id = :taskId")
+    void deleteByTaskEntityId(@Param("taskId") Long taskId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TaskAssigneeEntity ta WHERE ta.taskEntity.id = :taskId AND ta.userId IN :userIds")
+    int deleteByTaskIdAndUserIds(@Param("taskId") Long taskId, @Param("userIds") Collection<Long> userIds);
 }
\ No newline at end of file
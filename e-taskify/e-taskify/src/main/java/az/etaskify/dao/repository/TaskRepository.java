@@ -1,11 +1,19 @@
 package az.etaskify.dao.repository;
 
 import az.etaskify.dao.entity.TaskEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
@@ -15,4 +23,53 @@ public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
     List<TaskEntity> findByOrganizationIdAndCreatedBy(Long organizationId, Long createdBy);
 
     Optional<TaskEntity> findByIdAndOrganizationId(Long id, Long organizationId);
-}
\ No newline at end of file
+
+    String VISIBLE_TASKS = "SELECT t FROM TaskEntity t WHERE t.organization.id = :organizationId " +
+            "AND (t.visibility = az.etaskify.util.enums.VisibilityStatus.PUBLIC " +
+            "OR t.createdBy = :userId " +
+            "OR EXISTS (SELECT 1 FROM TaskAssigneeEntity ta WHERE ta.taskEntity = t AND ta.userId = :userId)) ";
+    String ASSIGNED_TASKS = "SELECT t FROM TaskEntity t WHERE t.organization.id = :organizationId " +
+            "AND EXISTS (SELECT 1 FROM TaskAssigneeEntity ta WHERE ta.taskEntity = t AND ta.userId = :userId) ";
+    String AFTER_CURSOR = "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) ";
+    String NEWEST_FIRST = "ORDER BY t.createdAt DESC, t.id DESC";
+
+    @Query(VISIBLE_TASKS + NEWEST_FIRST)
+    List<TaskEntity> findVisibleTasks(@Param("organizationId") Long organizationId, @Param("userId") Long userId,
+                                      Pageable pageable);
+
+    @Query(VISIBLE_TASKS + AFTER_CURSOR + NEWEST_FIRST)
+    List<TaskEntity> findVisibleTasksAfter(@Param("organizationId") Long organizationId, @Param("userId") Long userId,
+                                           @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                           Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(VISIBLE_TASKS + NEWEST_FIRST)
+    Stream<TaskEntity> streamVisibleTasks(@Param("organizationId") Long organizationId, @Param("userId") Long userId);
+
+    @Query(ASSIGNED_TASKS + NEWEST_FIRST)
+    List<TaskEntity> findAssignedTasks(@Param("organizationId") Long organizationId, @Param("userId") Long userId,
+                                       Pageable pageable);
+
+    @Query(ASSIGNED_TASKS + AFTER_CURSOR + NEWEST_FIRST)
+    List<TaskEntity> findAssignedTasksAfter(@Param("organizationId") Long organizationId, @Param("userId") Long userId,
+                                            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                            Pageable pageable);
+
+    /**
+     * Ranked full-text search over title and description, limited to the tasks
+     * {@link #VISIBLE_TASKS} would return. Relies on the generated {@code search_vector} column.
+     */
+    @Query(value = "SELECT t.* FROM task t " +
+            "WHERE t.organization_id = :organizationId " +
+            "AND t.search_vector @@ websearch_to_tsquery('simple', :query) " +
+            "AND (t.visibility = 'PUBLIC' OR t.created_by = :userId " +
+            "OR EXISTS (SELECT 1 FROM task_assignee ta WHERE ta.task_id = t.id AND ta.user_id = :userId)) " +
+            "ORDER BY ts_rank(t.search_vector, websearch_to_tsquery('simple', :query)) DESC, t.id DESC " +
+            "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<TaskEntity> searchVisibleTasks(@Param("organizationId") Long organizationId, @Param("userId") Long userId,
+                                        @Param("query") String query, @Param("limit") int limit,
+                                        @Param("offset") int offset);
+}
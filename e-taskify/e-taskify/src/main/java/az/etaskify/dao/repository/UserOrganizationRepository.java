@@ -3,11 +3,24 @@ package az.etaskify.dao.repository;
 import az.etaskify.dao.entity.UserOrganizationEntity;
 import feign.ResponseMapper;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 @Repository
 public interface UserOrganizationRepository extends JpaRepository<UserOrganizationEntity, Long> {
     ResponseMapper findByUserIdAndOrganizationId(Long inviterUserId, Long organizationId);
 
     boolean existsByUserIdAndOrganizationId(Long invitedUserId, Long organizationId);
+
+    @Query("SELECT uo.userId FROM UserOrganizationEntity uo WHERE uo.organization.id = :organizationId")
+    List<Long> findUserIdsByOrganizationId(@Param("organizationId") Long organizationId);
+
+    @Query("SELECT uo.userId FROM UserOrganizationEntity uo " +
+            "WHERE uo.organization.id = :organizationId AND uo.userId IN :userIds")
+    Set<Long> findMemberUserIds(@Param("organizationId") Long organizationId, @Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,13 @@
+package az.etaskify.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkInviteRequestDto(
+        @NotEmpty(message = "At least one username is required")
+        @Size(max = 500, message = "At most 500 users can be invited at once")
+        List<@NotBlank(message = "Username of the user to invite cannot be blank") String> usernames) {
+}
@@ -0,0 +1,13 @@
+package az.etaskify.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BulkInviteResultDto {
+    private int invitedCount;
+    private List<BulkInviteResultItemDto> results;
+}
@@ -0,0 +1,13 @@
+package az.etaskify.dto;
+
+import az.etaskify.util.enums.BulkInviteStatus;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BulkInviteResultItemDto {
+    private String username;
+    private BulkInviteStatus status;
+    private Long inviteId;
+}
@@ -0,0 +1,20 @@
+package az.etaskify.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class CacheStatsDto {
+    private long l1Hits;
+    private long l2Hits;
+    private long staleHits;
+    private long misses;
+    private double hitRate;
+    private long loads;
+    private long loadFailures;
+    private long backgroundRefreshes;
+    private double averageLoadMillis;
+    private long maxLoadMillis;
+    private int l1Size;
+}
@@ -0,0 +1,13 @@
+package az.etaskify.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class CursorPageResponseDto<T> {
+    private List<T> items;
+    private String nextCursor;
+}
@@ -0,0 +1,12 @@
+package az.etaskify.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record JoinRequestBulkDecisionRequestDto(
+        @NotEmpty(message = "At least one join request ID is required")
+        @Size(max = 500, message = "At most 500 join requests can be processed at once")
+        List<Long> requestIds) {
+}
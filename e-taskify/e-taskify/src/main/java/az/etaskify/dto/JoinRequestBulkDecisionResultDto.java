@@ -0,0 +1,18 @@
+package az.etaskify.dto;
+
+import az.etaskify.util.enums.InviteStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class JoinRequestBulkDecisionResultDto {
+    private InviteStatus status;
+    private List<Long> processedRequestIds;
+    /**
+     * Requests that were not found in the organization or were no longer pending.
+     */
+    private List<Long> skippedRequestIds;
+}
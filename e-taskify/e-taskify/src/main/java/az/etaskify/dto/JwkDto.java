@@ -0,0 +1,4 @@
+package az.etaskify.dto;
+
+public record JwkDto(String kty, String kid, String use, String alg, String n, String e) {
+}
@@ -0,0 +1,22 @@
+package az.etaskify.dto;
+
+import az.etaskify.util.enums.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationDto {
+    private Long id;
+    private NotificationType type;
+    private String message;
+    private Integer count;
+    private Boolean isRead;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,29 @@
+package az.etaskify.dto;
+
+import az.etaskify.util.enums.NotificationType;
+
+/**
+ * A notification intent as it travels from the outbox to the notification writer.
+ * {@code actorUserId} is the user whose action caused the notification, if any; {@code count}
+ * is greater than one when several intents were coalesced into this one, in which case the
+ * actor is the most recent of them.
+ */
+public record NotificationMessage(Long recipientUserId, NotificationType type, Long actorUserId,
+                                  Long organizationId, int count) {
+
+    public NotificationMessage(Long recipientUserId, NotificationType type, Long actorUserId, Long organizationId) {
+        this(recipientUserId, type, actorUserId, organizationId, 1);
+    }
+
+    /**
+     * Key under which intents of the same kind for the same recipient and organization are merged.
+     */
+    public String coalesceKey() {
+        return type + ":" + recipientUserId + ":" + organizationId;
+    }
+
+    public NotificationMessage mergeWith(NotificationMessage newer) {
+        return new NotificationMessage(recipientUserId, type, newer.actorUserId(), organizationId,
+                Math.max(1, count) + Math.max(1, newer.count()));
+    }
+}
@@ -0,0 +1,15 @@
+package az.etaskify.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class PageResponseDto<T> {
+    private List<T> items;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
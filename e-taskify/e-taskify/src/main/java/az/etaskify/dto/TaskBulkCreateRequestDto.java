@@ -0,0 +1,17 @@
+package az.etaskify.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class TaskBulkCreateRequestDto {
+    @NotEmpty(message = "At least one task is required")
+    @Size(max = 500, message = "At most 500 tasks can be created at once")
+    private List<@Valid TaskCreateRequestDto> tasks;
+}
@@ -0,0 +1,4 @@
+package az.etaskify.dto;
+
+public record UnreadCountDto(long unreadCount) {
+}
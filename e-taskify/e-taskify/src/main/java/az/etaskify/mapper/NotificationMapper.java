@@ -0,0 +1,21 @@
+package az.etaskify.mapper;
+
+import az.etaskify.dao.entity.NotificationEntity;
+import az.etaskify.dto.NotificationDto;
+import org.springframework.stereotype.Component;
+
+@Component
+public class NotificationMapper {
+
+    public NotificationDto mapToNotificationDto(NotificationEntity entity) {
+        if (entity == null) return null;
+        return NotificationDto.builder()
+                .id(entity.getId())
+                .type(entity.getType())
+                .message(entity.getMessage())
+                .count(entity.getAggregateCount())
+                .isRead(entity.getIsRead())
+                .createdAt(entity.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package az.etaskify.messaging;
+
+import az.etaskify.dto.NotificationMessage;
+import az.etaskify.service.NotificationWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Delivers straight to the writer on the relay thread. Meant for tests and local runs
+ * without RabbitMQ.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.broker", havingValue = "in-memory")
+public class InMemoryNotificationBroker implements NotificationBroker {
+    private final NotificationWriter notificationWriter;
+
+    @Override
+    public void publish(List<NotificationMessage> messages) {
+        notificationWriter.write(messages);
+    }
+}
@@ -0,0 +1,18 @@
+package az.etaskify.messaging;
+
+import az.etaskify.dto.NotificationMessage;
+
+import java.util.List;
+
+/**
+ * Transport between the notification outbox and {@link az.etaskify.service.NotificationWriter}.
+ * Selected with {@code notification.broker}: {@code rabbit} (default) or {@code in-memory}.
+ */
+public interface NotificationBroker {
+
+    /**
+     * Hands the messages over for delivery. Returns only once the transport has accepted all of
+     * them; an exception means none should be considered sent.
+     */
+    void publish(List<NotificationMessage> messages);
+}
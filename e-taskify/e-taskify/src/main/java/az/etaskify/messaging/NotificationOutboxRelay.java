@@ -0,0 +1,100 @@
+package az.etaskify.messaging;
+
+import az.etaskify.dao.entity.NotificationOutboxEntity;
+import az.etaskify.dao.repository.NotificationOutboxRepository;
+import az.etaskify.dto.NotificationMessage;
+import az.etaskify.util.enums.OutboxStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Moves committed outbox entries to the {@link NotificationBroker}. Entries are deleted in the
+ * same transaction that publishes them, so a failed publish leaves them for the next run
+ * (at-least-once delivery). Entries whose payload cannot be read are parked with status
+ * {@link OutboxStatus#PARKED} and the parse error, rather than deleted, so they can be inspected
+ * and replayed.
+ * <p>
+ * This is also the batcher for coalesced notifications: once the first entry under a coalesce
+ * key is due, every entry waiting under that key is merged into it and published as one.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationBroker notificationBroker;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public NotificationOutboxRelay(NotificationOutboxRepository notificationOutboxRepository,
+                                   NotificationBroker notificationBroker,
+                                   ObjectMapper objectMapper,
+                                   @Value("${notification.outbox.batch-size:200}") int batchSize) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.notificationBroker = notificationBroker;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:500}")
+    @Transactional
+    public void relay() {
+        List<NotificationOutboxEntity> batch = notificationOutboxRepository.lockNextBatch(LocalDateTime.now(), batchSize);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<Long, NotificationOutboxEntity> entries = new TreeMap<>();
+        Set<String> coalesceKeys = new HashSet<>();
+        for (NotificationOutboxEntity entry : batch) {
+            entries.put(entry.getId(), entry);
+            if (entry.getCoalesceKey() != null) {
+                coalesceKeys.add(entry.getCoalesceKey());
+            }
+        }
+        if (!coalesceKeys.isEmpty()) {
+            for (NotificationOutboxEntity entry : notificationOutboxRepository.lockByCoalesceKeys(coalesceKeys)) {
+                entries.putIfAbsent(entry.getId(), entry);
+            }
+        }
+
+        List<NotificationOutboxEntity> relayed = new ArrayList<>(entries.size());
+        List<NotificationMessage> messages = new ArrayList<>(entries.size());
+        Map<String, Integer> coalescedIndexes = new HashMap<>();
+        for (NotificationOutboxEntity entry : entries.values()) {
+            NotificationMessage message;
+            try {
+                message = objectMapper.readValue(entry.getPayload(), NotificationMessage.class);
+            } catch (JsonProcessingException e) {
+                log.error("Parking unreadable outbox entry ID: {}. Error: {}", entry.getId(), e.getMessage());
+                entry.setStatus(OutboxStatus.PARKED);
+                entry.setLastError(e.getOriginalMessage());
+                continue;
+            }
+            relayed.add(entry);
+            if (entry.getCoalesceKey() == null) {
+                messages.add(message);
+                continue;
+            }
+            Integer index = coalescedIndexes.get(entry.getCoalesceKey());
+            if (index == null) {
+                coalescedIndexes.put(entry.getCoalesceKey(), messages.size());
+                messages.add(message);
+            } else {
+                messages.set(index, messages.get(index).mergeWith(message));
+            }
+        }
+        if (!messages.isEmpty()) {
+            notificationBroker.publish(messages);
+        }
+        notificationOutboxRepository.deleteAllInBatch(relayed);
+        log.debug("Relayed {} outbox entries as {} notifications", relayed.size(), messages.size());
+    }
+}
@@ -0,0 +1,46 @@
+package az.etaskify.messaging;
+
+import az.etaskify.config.NotificationAmqpConfig;
+import az.etaskify.dto.NotificationMessage;
+import az.etaskify.service.NotificationWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Publishes notifications to {@value NotificationAmqpConfig#NOTIFICATION_QUEUE} with publisher
+ * confirms and consumes them in batches.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.broker", havingValue = "rabbit", matchIfMissing = true)
+public class RabbitNotificationBroker implements NotificationBroker {
+    private static final long CONFIRM_TIMEOUT_MILLIS = 5000;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final NotificationWriter notificationWriter;
+
+    @Override
+    public void publish(List<NotificationMessage> messages) {
+        rabbitTemplate.invoke(operations -> {
+            for (NotificationMessage message : messages) {
+                operations.convertAndSend(NotificationAmqpConfig.NOTIFICATION_QUEUE, message);
+            }
+            operations.waitForConfirmsOrDie(CONFIRM_TIMEOUT_MILLIS);
+            return null;
+        });
+    }
+
+    @RabbitListener(queues = NotificationAmqpConfig.NOTIFICATION_QUEUE,
+            containerFactory = NotificationAmqpConfig.BATCH_LISTENER_FACTORY)
+    public void onNotifications(List<NotificationMessage> messages) {
+        log.debug("Received {} notifications from the queue", messages.size());
+        notificationWriter.write(messages);
+    }
+}
@@ -0,0 +1,160 @@
+package az.etaskify.service;
+
+import az.etaskify.dao.repository.UserOrganizationRepository;
+import az.etaskify.util.cache.LruCache;
+import az.etaskify.util.event.MembershipChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process index of organization members, used instead of a membership query on every
+ * task read and write.
+ * <p>
+ * Each organization is loaded lazily into a sorted {@code long[]} of user ids and kept in an
+ * LRU bounded by the total number of ids held ({@code membership-index.max-entries}).
+ * Organizations with more members than that are not cached and always go to Postgres.
+ * <p>
+ * Entries are dropped after the transaction that changed the membership commits, and the
+ * organization id is broadcast over Redis so other instances drop theirs too. Entries also
+ * expire after {@code membership-index.ttl} in case such a broadcast is missed.
+ */
+@Slf4j
+@Service
+public class MembershipIndexService implements MessageListener {
+    public static final String INVALIDATION_CHANNEL = "etaskify:membership:invalidate";
+
+    private final UserOrganizationRepository userOrganizationRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final long maxEntries;
+    private final long ttlMillis;
+    private final LruCache<Long, MemberSet> members;
+    private final Set<Long> oversized = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Bumped on every invalidation. A load only caches its result if no invalidation happened
+     * while it was reading, so a read racing a commit cannot put an outdated set back.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    public MembershipIndexService(UserOrganizationRepository userOrganizationRepository,
+                                  StringRedisTemplate redisTemplate,
+                                  @Value("${membership-index.max-entries:1000000}") long maxEntries,
+                                  @Value("${membership-index.ttl:10m}") Duration ttl) {
+        this.userOrganizationRepository = userOrganizationRepository;
+        this.redisTemplate = redisTemplate;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.members = new LruCache<>(maxEntries, memberSet -> Math.max(1, memberSet.userIds().length));
+    }
+
+    public boolean isMember(Long userId, Long organizationId) {
+        if (userId == null || organizationId == null) {
+            return false;
+        }
+        MemberSet memberSet = load(organizationId);
+        if (memberSet == null) {
+            return userOrganizationRepository.existsByUserIdAndOrganizationId(userId, organizationId);
+        }
+        return memberSet.contains(userId);
+    }
+
+    /**
+     * Returns the subset of {@code userIds} that are members of the organization.
+     */
+    public Set<Long> findMemberUserIds(Long organizationId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        MemberSet memberSet = load(organizationId);
+        if (memberSet == null) {
+            return userOrganizationRepository.findMemberUserIds(organizationId, userIds);
+        }
+        Set<Long> result = new HashSet<>();
+        for (Long userId : userIds) {
+            if (userId != null && memberSet.contains(userId)) {
+                result.add(userId);
+            }
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        invalidate(event.organizationId());
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(event.organizationId()));
+        } catch (DataAccessException e) {
+            log.warn("Could not broadcast membership change for organization ID: {}. Error: {}",
+                    event.organizationId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            invalidate(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed membership invalidation message: {}", body);
+        }
+    }
+
+    private void invalidate(Long organizationId) {
+        generation.incrementAndGet();
+        members.remove(organizationId);
+        oversized.remove(organizationId);
+        log.debug("Membership index entry dropped for organization ID: {}", organizationId);
+    }
+
+    /**
+     * Returns the cached member set, loading it if needed, or {@code null} when the
+     * organization is too large to be held in the index.
+     */
+    private MemberSet load(Long organizationId) {
+        if (oversized.contains(organizationId)) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        MemberSet cached = members.get(organizationId);
+        if (cached != null && now - cached.loadedAt() < ttlMillis) {
+            return cached;
+        }
+
+        long startGeneration = generation.get();
+        long[] userIds = userOrganizationRepository.findUserIdsByOrganizationId(organizationId).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+        MemberSet loaded = new MemberSet(userIds, now);
+        if (userIds.length > maxEntries) {
+            log.debug("Organization ID: {} has {} members, too many to index", organizationId, userIds.length);
+            oversized.add(organizationId);
+            return loaded;
+        }
+        if (generation.get() == startGeneration) {
+            members.put(organizationId, loaded);
+        }
+        return loaded;
+    }
+
+    private record MemberSet(long[] userIds, long loadedAt) {
+        boolean contains(long userId) {
+            return Arrays.binarySearch(userIds, userId) >= 0;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package az.etaskify.service;
+
+import az.etaskify.dao.entity.NotificationEntity;
+import az.etaskify.dao.repository.NotificationRepository;
+import az.etaskify.dto.CursorPageResponseDto;
+import az.etaskify.dto.NotificationDto;
+import az.etaskify.dto.UnreadCountDto;
+import az.etaskify.util.pagination.Cursor;
+import az.etaskify.util.pagination.PageSize;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationInboxService {
+    private final NotificationRepository notificationRepository;
+    private final UnreadCounterService unreadCounterService;
+    private final NotificationRenderer notificationRenderer;
+
+    public CursorPageResponseDto<NotificationDto> listInbox(Long userId, String cursor, Integer size) {
+        int pageSize = PageSize.resolve(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<NotificationEntity> notifications;
+        if (cursor == null || cursor.isBlank()) {
+            notifications = notificationRepository.findInbox(userId, limit);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            notifications = notificationRepository.findInboxAfter(userId, after.createdAt(), after.id(), limit);
+        }
+
+        boolean hasMore = notifications.size() > pageSize;
+        List<NotificationEntity> pageNotifications = hasMore ? notifications.subList(0, pageSize) : notifications;
+        String nextCursor = null;
+        if (hasMore) {
+            NotificationEntity last = pageNotifications.get(pageNotifications.size() - 1);
+            nextCursor = new Cursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CursorPageResponseDto.<NotificationDto>builder()
+                .items(notificationRenderer.render(pageNotifications))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    public UnreadCountDto getUnreadCount(Long userId) {
+        return new UnreadCountDto(unreadCounterService.getUnreadCount(userId));
+    }
+
+    @Transactional
+    public void markAllRead(Long userId) {
+        int updated = notificationRepository.markAllRead(userId);
+        log.info("Marked {} notifications as read for user ID: {}", updated, userId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                unreadCounterService.reset(userId);
+            }
+        });
+    }
+}
@@ -0,0 +1,123 @@
+package az.etaskify.service;
+
+import az.etaskify.dao.entity.NotificationEntity;
+import az.etaskify.dao.entity.OrganizationEntity;
+import az.etaskify.dao.repository.OrganizationRepository;
+import az.etaskify.dto.NotificationDto;
+import az.etaskify.dto.UserDto;
+import az.etaskify.mapper.NotificationMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Renders notification text on read from the {@code notification.<TYPE>} message templates.
+ * Actor usernames and organization names for a whole page are resolved with one lookup each;
+ * the message source caches the parsed template per locale.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationRenderer {
+    public static final Locale DEFAULT_LOCALE = Locale.forLanguageTag("az");
+    public static final List<Locale> SUPPORTED_LOCALES = List.of(DEFAULT_LOCALE, Locale.ENGLISH);
+    private static final String TEMPLATE_PREFIX = "notification.";
+    private static final String AGGREGATE_SUFFIX = ".aggregate";
+
+    private final NotificationMapper notificationMapper;
+    private final UserLookupService userLookupService;
+    private final OrganizationRepository organizationRepository;
+    private final MessageSource messageSource;
+
+    /**
+     * Renders in the locale of the current request, or {@link #DEFAULT_LOCALE} outside of one.
+     */
+    public List<NotificationDto> render(List<NotificationEntity> notifications) {
+        LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+        Locale locale = localeContext != null && localeContext.getLocale() != null
+                ? localeContext.getLocale() : DEFAULT_LOCALE;
+        return render(notifications, locale);
+    }
+
+    public List<NotificationDto> render(List<NotificationEntity> notifications, Locale locale) {
+        return renderAll(notifications, List.of(locale)).get(locale);
+    }
+
+    /**
+     * Renders the same notifications in each of {@code locales}, resolving actors and
+     * organizations once for all of them.
+     */
+    public Map<Locale, List<NotificationDto>> renderAll(List<NotificationEntity> notifications,
+                                                        Collection<Locale> locales) {
+        Set<Long> actorIds = new HashSet<>();
+        Set<Long> organizationIds = new HashSet<>();
+        for (NotificationEntity notification : notifications) {
+            if (notification.getMessage() != null) {
+                continue;
+            }
+            if (notification.getActorUserId() != null) {
+                actorIds.add(notification.getActorUserId());
+            }
+            if (notification.getOrganizationId() != null) {
+                organizationIds.add(notification.getOrganizationId());
+            }
+        }
+        Map<Long, UserDto> actors = actorIds.isEmpty() ? Map.of() : userLookupService.findByIds(actorIds);
+        Map<Long, String> organizationNames = new HashMap<>();
+        if (!organizationIds.isEmpty()) {
+            for (OrganizationEntity organization : organizationRepository.findAllById(organizationIds)) {
+                organizationNames.put(organization.getId(), organization.getName());
+            }
+        }
+
+        Map<Locale, List<NotificationDto>> rendered = new HashMap<>();
+        for (Locale locale : locales) {
+            List<NotificationDto> dtos = new ArrayList<>(notifications.size());
+            for (NotificationEntity notification : notifications) {
+                NotificationDto dto = notificationMapper.mapToNotificationDto(notification);
+                if (dto.getMessage() == null) {
+                    dto.setMessage(renderMessage(notification, actors, organizationNames, locale));
+                }
+                dtos.add(dto);
+            }
+            rendered.put(locale, dtos);
+        }
+        return rendered;
+    }
+
+    /**
+     * The supported locale with the same language as {@code locale}, or {@link #DEFAULT_LOCALE}.
+     */
+    public static Locale supportedLocale(Locale locale) {
+        if (locale != null) {
+            for (Locale supported : SUPPORTED_LOCALES) {
+                if (supported.getLanguage().equals(locale.getLanguage())) {
+                    return supported;
+                }
+            }
+        }
+        return DEFAULT_LOCALE;
+    }
+
+    private String renderMessage(NotificationEntity notification, Map<Long, UserDto> actors,
+                                 Map<Long, String> organizationNames, Locale locale) {
+        UserDto actor = notification.getActorUserId() == null ? null : actors.get(notification.getActorUserId());
+        String actorUsername = actor != null && actor.getUsername() != null ? actor.getUsername()
+                : messageSource.getMessage("notification.unknown-user", null, locale);
+        String organizationName = organizationNames.getOrDefault(notification.getOrganizationId(),
+                messageSource.getMessage("notification.unknown-organization", null, locale));
+        int count = notification.getAggregateCount() == null ? 1 : notification.getAggregateCount();
+        Object[] args = {actorUsername, organizationName, count - 1};
+        String template = TEMPLATE_PREFIX + notification.getType();
+        if (count > 1) {
+            String aggregate = messageSource.getMessage(template + AGGREGATE_SUFFIX, args, null, locale);
+            if (aggregate != null) {
+                return aggregate;
+            }
+        }
+        return messageSource.getMessage(template, args, locale);
+    }
+}
@@ -1,193 +1,136 @@
 package az.etaskify.service;
 
-import az.etaskify.client.AuthClient;
-import az.etaskify.dao.entity.NotificationEntity;
-import az.etaskify.dao.repository.NotificationRepository;
-import az.etaskify.dto.UserDto;
+import az.etaskify.dao.entity.NotificationOutboxEntity;
+import az.etaskify.dao.repository.NotificationOutboxRepository;
+import az.etaskify.dto.NotificationMessage;
 import az.etaskify.util.enums.NotificationType;
-import feign.FeignException;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Records notification intents in the outbox as part of the caller's transaction. They are
+ * delivered later by {@link az.etaskify.messaging.NotificationOutboxRelay}, so callers never
+ * wait on notification inserts. Only ids are recorded; the text is rendered when read.
+ * <p>
+ * Intents of the types in {@code notification.coalescing.types} are held back for
+ * {@code notification.coalescing.window}; whatever arrives for the same recipient and
+ * organization in the meantime is delivered as one aggregate notification.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class NotificationService {
 
-    private final NotificationRepository notificationRepository;
-    private final AuthClient authServiceClient;
-
-    public void sendInviteNotificationAsync(Long invitedUserId, Long inviterUserId, String organizationName) {
-        log.info("Attempting to send invite notification. Invited User ID: {}, Inviter User ID: {}, Org Name: {}",
-                invitedUserId, inviterUserId, organizationName);
-
-        String inviterUsername = fetchUsername(inviterUserId);
-
-        String message = String.format("'%s' sizi '%s' təşkilatına dəvət etdi.",
-                inviterUsername,
-                organizationName);
-
-        try {
-            NotificationEntity notification = NotificationEntity.builder()
-                    .userId(invitedUserId)
-                    .message(message)
-                    .isRead(false)
-                    .type(NotificationType.INVITE_RECEIVED)
-                    .build();
-
-            notificationRepository.save(notification);
-            log.info("Successfully saved invite notification for user ID: {}", invitedUserId);
-
-        } catch (Exception e) {
-            log.error("Failed to save invite notification for user ID: {}. Error: {}", invitedUserId, e.getMessage(), e);
-        }
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final ObjectMapper objectMapper;
+    private final Set<NotificationType> coalescedTypes;
+    private final Duration coalescingWindow;
+
+    public NotificationService(NotificationOutboxRepository notificationOutboxRepository,
+                               ObjectMapper objectMapper,
+                               @Value("${notification.coalescing.types:JOIN_REQUEST_RECEIVED}") Set<NotificationType> coalescedTypes,
+                               @Value("${notification.coalescing.window:1m}") Duration coalescingWindow) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.objectMapper = objectMapper;
+        this.coalescedTypes = coalescedTypes.isEmpty() ? Set.of() : EnumSet.copyOf(coalescedTypes);
+        this.coalescingWindow = coalescingWindow;
     }
 
-    public void sendInviteAcceptedNotification(Long inviterUserId, Long acceptingUserId, String organizationName) {
-        log.info("Attempting to send invite accepted notification. Inviter User ID: {}, Accepting User ID: {}, Org Name: {}",
-                inviterUserId, acceptingUserId, organizationName);
-        String acceptingUsername = fetchUsername(acceptingUserId);
-        String message = String.format("'%s' sizin '%s' təşkilatına göndərdiyiniz dəvəti qəbul etdi.",
-                acceptingUsername,
-                organizationName);
-        try {
-            NotificationEntity notification = NotificationEntity.builder()
-                    .userId(inviterUserId)
-                    .message(message)
-                    .isRead(false)
-                    .type(NotificationType.JOIN_ACCEPTED)
-                    .build();
-
-            notificationRepository.save(notification);
-            log.info("Successfully saved invite accepted notification for user ID: {}", inviterUserId);
-
-        } catch (Exception e) {
-            log.error("Failed to save invite accepted notification for user ID: {}. Error: {}", inviterUserId, e.getMessage(), e);
-        }
+    public void sendInviteNotificationAsync(Long invitedUserId, Long inviterUserId, Long organizationId) {
+        log.info("Queueing invite notification. Invited User ID: {}, Inviter User ID: {}, Org ID: {}",
+                invitedUserId, inviterUserId, organizationId);
+        enqueue(new NotificationMessage(invitedUserId, NotificationType.INVITE_RECEIVED, inviterUserId, organizationId));
     }
 
-    public void sendInviteRejectedNotification(Long inviterUserId, Long rejectingUserId, String organizationName) {
-        log.info("Attempting to send invite rejected notification. Inviter User ID: {}, Rejecting User ID: {}, Org Name: {}",
-                inviterUserId, rejectingUserId, organizationName);
-
-        String rejectingUsername = fetchUsername(rejectingUserId);
-
-        String message = String.format("'%s' sizin '%s' təşkilatına göndərdiyiniz dəvəti rədd etdi.",
-                rejectingUsername,
-                organizationName);
-
-        try {
-            NotificationEntity notification = NotificationEntity.builder()
-                    .userId(inviterUserId)
-                    .message(message)
-                    .isRead(false)
-                    .type(NotificationType.INVITE_REJECTED)
-                    .build();
-
-            notificationRepository.save(notification);
-            log.info("Successfully saved invite rejected notification for user ID: {}", inviterUserId);
-
-        } catch (Exception e) {
-            log.error("Failed to save invite rejected notification for user ID: {}. Error: {}", inviterUserId, e.getMessage(), e);
-        }
+    public void sendInviteNotifications(Collection<Long> invitedUserIds, Long inviterUserId, Long organizationId) {
+        log.info("Queueing {} invite notifications. Inviter User ID: {}, Org ID: {}", invitedUserIds.size(),
+                inviterUserId, organizationId);
+        enqueueAll(invitedUserIds.stream()
+                .map(userId -> new NotificationMessage(userId, NotificationType.INVITE_RECEIVED, inviterUserId, organizationId))
+                .toList());
     }
 
-    public void sendJoinRequestReceivedNotification(Long ownerUserId, Long requestingUserId, String organizationName) {
-        log.info("Attempting to send join request received notification. Owner User ID: {}, Requesting User ID: {}, Org Name: {}",
-                ownerUserId, requestingUserId, organizationName);
+    public void sendInviteAcceptedNotification(Long inviterUserId, Long acceptingUserId, Long organizationId) {
+        log.info("Queueing invite accepted notification. Inviter User ID: {}, Accepting User ID: {}, Org ID: {}",
+                inviterUserId, acceptingUserId, organizationId);
+        enqueue(new NotificationMessage(inviterUserId, NotificationType.JOIN_ACCEPTED, acceptingUserId, organizationId));
+    }
 
-        String requestingUsername = fetchUsername(requestingUserId);
+    public void sendInviteRejectedNotification(Long inviterUserId, Long rejectingUserId, Long organizationId) {
+        log.info("Queueing invite rejected notification. Inviter User ID: {}, Rejecting User ID: {}, Org ID: {}",
+                inviterUserId, rejectingUserId, organizationId);
+        enqueue(new NotificationMessage(inviterUserId, NotificationType.INVITE_REJECTED, rejectingUserId, organizationId));
+    }
 
-        String message = String.format("'%s' adlı istifadəçi '%s' təşkilatınıza qoşulmaq üçün sorğu göndərdi.",
-                requestingUsername,
-                organizationName);
+    public void sendJoinRequestReceivedNotification(Long ownerUserId, Long requestingUserId, Long organizationId) {
+        log.info("Queueing join request received notification. Owner User ID: {}, Requesting User ID: {}, Org ID: {}",
+                ownerUserId, requestingUserId, organizationId);
+        enqueue(new NotificationMessage(ownerUserId, NotificationType.JOIN_REQUEST_RECEIVED, requestingUserId,
+                organizationId));
+    }
 
-        try {
-            NotificationEntity notification = NotificationEntity.builder()
-                    .userId(ownerUserId)
-                    .message(message)
-                    .isRead(false)
-                    .type(NotificationType.JOIN_REQUEST_RECEIVED)
-                    .build();
-
-            notificationRepository.save(notification);
-            log.info("Successfully saved join request received notification for owner user ID: {}", ownerUserId);
-
-        } catch (Exception e) {
-            log.error("Failed to save join request received notification for owner user ID: {}. Error: {}", ownerUserId, e.getMessage(), e);
-        }
+    public void sendJoinRequestApprovedNotification(Long requestingUserId, Long organizationId) {
+        log.info("Queueing join request approved notification. Requesting User ID: {}, Org ID: {}",
+                requestingUserId, organizationId);
+        enqueue(new NotificationMessage(requestingUserId, NotificationType.JOIN_REQUEST_APPROVED, null, organizationId));
     }
 
-    public void sendJoinRequestApprovedNotification(Long requestingUserId, String organizationName) {
-        log.info("Attempting to send join request approved notification. Requesting User ID: {}, Org Name: {}",
-                requestingUserId, organizationName);
+    public void sendJoinRequestRejectedNotification(Long requestingUserId, Long organizationId) {
+        log.info("Queueing join request rejected notification. Requesting User ID: {}, Org ID: {}",
+                requestingUserId, organizationId);
+        enqueue(new NotificationMessage(requestingUserId, NotificationType.JOIN_REQUEST_REJECTED, null, organizationId));
+    }
 
-        String message = String.format("'%s' təşkilatına qoşulma sorğunuz təsdiqləndi.",
-                organizationName);
+    public void sendJoinRequestApprovedNotifications(Collection<Long> requestingUserIds, Long organizationId) {
+        log.info("Queueing {} join request approved notifications for Org ID: {}", requestingUserIds.size(), organizationId);
+        enqueueAll(requestingUserIds.stream()
+                .map(userId -> new NotificationMessage(userId, NotificationType.JOIN_REQUEST_APPROVED, null, organizationId))
+                .toList());
+    }
 
-        try {
-            NotificationEntity notification = NotificationEntity.builder()
-                    .userId(requestingUserId)
-                    .message(message)
-                    .isRead(false)
-                    .type(NotificationType.JOIN_REQUEST_APPROVED)
-                    .build();
-
-            notificationRepository.save(notification);
-            log.info("Successfully saved join request approved notification for user ID: {}", requestingUserId);
-
-        } catch (Exception e) {
-            log.error("Failed to save join request approved notification for user ID: {}. Error: {}", requestingUserId, e.getMessage(), e);
-        }
+    public void sendJoinRequestRejectedNotifications(Collection<Long> requestingUserIds, Long organizationId) {
+        log.info("Queueing {} join request rejected notifications for Org ID: {}", requestingUserIds.size(), organizationId);
+        enqueueAll(requestingUserIds.stream()
+                .map(userId -> new NotificationMessage(userId, NotificationType.JOIN_REQUEST_REJECTED, null, organizationId))
+                .toList());
     }
 
-    public void sendJoinRequestRejectedNotification(Long requestingUserId, String organizationName) {
-        log.info("Attempting to send join request rejected notification. Requesting User ID: {}, Org Name: {}",
-                requestingUserId, organizationName);
 
-        String message = String.format("'%s' təşkilatına qoşulma sorğunuz rədd edildi.",
-                organizationName);
+    private void enqueue(NotificationMessage message) {
+        enqueueAll(List.of(message));
+    }
 
-        try {
-            NotificationEntity notification = NotificationEntity.builder()
-                    .userId(requestingUserId)
-                    .message(message)
-                    .isRead(false)
-                    .type(NotificationType.JOIN_REQUEST_REJECTED)
-                    .build();
-
-            notificationRepository.save(notification);
-            log.info("Successfully saved join request rejected notification for user ID: {}", requestingUserId);
-
-        } catch (Exception e) {
-            log.error("Failed to save join request rejected notification for user ID: {}. Error: {}", requestingUserId, e.getMessage(), e);
+    private void enqueueAll(List<NotificationMessage> messages) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutboxEntity> entries = new ArrayList<>(messages.size());
+        for (NotificationMessage message : messages) {
+            entries.add(toOutboxEntry(message, now));
         }
+        notificationOutboxRepository.saveAll(entries);
     }
 
-
-    private String fetchUsername(Long userId) {
+    private NotificationOutboxEntity toOutboxEntry(NotificationMessage message, LocalDateTime now) {
+        String payload;
         try {
-            log.debug("Fetching username for user ID: {}", userId);
-            UserDto userDto = authServiceClient.findUserById(userId);
-            if (userDto != null && userDto.getUsername() != null) {
-                log.debug("Username found: {}", userDto.getUsername());
-                return userDto.getUsername();
-            } else {
-                log.warn("User DTO or username was null for user ID: {}", userId);
-                return "Bir istifadəçi";
-            }
-        } catch (FeignException e) {
-            log.error("Failed to fetch username for user ID: {} from Auth Service. Status: {}, Error: {}", userId, e.status(), e.getMessage());
-            return "Bir istifadəçi";
-        } catch (Exception e) {
-            log.error("An unexpected error occurred while fetching username for user ID: {}. Error: {}", userId, e.getMessage(), e);
-            return "Bir istifadəçi";
+            payload = objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Notification could not be serialized", e);
         }
+        boolean coalesced = coalescedTypes.contains(message.type());
+        return NotificationOutboxEntity.builder()
+                .payload(payload)
+                .coalesceKey(coalesced ? message.coalesceKey() : null)
+                .availableAt(coalesced ? now.plus(coalescingWindow) : now)
+                .build();
     }
-
-
-
-
-}
\ No newline at end of file
+}
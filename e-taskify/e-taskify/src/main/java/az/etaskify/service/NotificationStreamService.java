@@ -0,0 +1,182 @@
+package az.etaskify.service;
+
+import az.etaskify.dao.entity.NotificationEntity;
+import az.etaskify.dto.NotificationDto;
+import az.etaskify.util.event.NotificationsCreatedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Pushes new notifications to connected clients over Server-Sent Events.
+ * <p>
+ * A user may hold several streams (one per tab or device), up to
+ * {@code notification.stream.max-per-user}; beyond that the oldest is completed. Each stream
+ * keeps the locale it was opened with, and every push carries the notification rendered in each
+ * supported locale so the delivering instance can pick the right one per stream. Committed
+ * notifications are broadcast over Redis so the instances holding the recipient's streams
+ * deliver them, whichever instance wrote them. Idle streams are kept open by one shared
+ * heartbeat instead of a timer per connection. Writes to clients run on a small pool so a
+ * slow client cannot hold up the caller.
+ */
+@Slf4j
+@Service
+public class NotificationStreamService implements MessageListener {
+    public static final String PUSH_CHANNEL = "etaskify:notification:push";
+    private static final String NOTIFICATION_EVENT = "notification";
+
+    private final NotificationRenderer notificationRenderer;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final long streamTimeoutMillis;
+    private final int maxStreamsPerUser;
+    private final Map<Long, List<Stream>> streams = new ConcurrentHashMap<>();
+    private final ExecutorService sendExecutor;
+
+    public NotificationStreamService(NotificationRenderer notificationRenderer,
+                                     StringRedisTemplate redisTemplate,
+                                     ObjectMapper objectMapper,
+                                     @Value("${notification.stream.timeout:30m}") Duration streamTimeout,
+                                     @Value("${notification.stream.send-threads:4}") int sendThreads,
+                                     @Value("${notification.stream.max-per-user:5}") int maxStreamsPerUser) {
+        this.notificationRenderer = notificationRenderer;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.streamTimeoutMillis = streamTimeout.toMillis();
+        this.maxStreamsPerUser = maxStreamsPerUser;
+        this.sendExecutor = new ThreadPoolExecutor(sendThreads, sendThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(10_000), runnable -> {
+                    Thread thread = new Thread(runnable, "notification-stream");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    public SseEmitter subscribe(Long userId, Locale locale) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        Stream stream = new Stream(emitter, NotificationRenderer.supportedLocale(locale).toLanguageTag());
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(error -> remove(userId, emitter));
+
+        List<Stream> evicted = new ArrayList<>();
+        streams.compute(userId, (id, userStreams) -> {
+            List<Stream> updated = userStreams == null ? new CopyOnWriteArrayList<>() : userStreams;
+            updated.add(stream);
+            while (updated.size() > maxStreamsPerUser) {
+                evicted.add(updated.remove(0));
+            }
+            return updated;
+        });
+        evicted.forEach(old -> old.emitter().complete());
+        send(userId, emitter, SseEmitter.event().comment("connected"));
+        log.debug("User ID: {} opened a notification stream", userId);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationsCreated(NotificationsCreatedEvent event) {
+        List<NotificationEntity> notifications = event.notifications();
+        Map<Locale, List<NotificationDto>> rendered =
+                notificationRenderer.renderAll(notifications, NotificationRenderer.SUPPORTED_LOCALES);
+        for (int i = 0; i < notifications.size(); i++) {
+            NotificationEntity notification = notifications.get(i);
+            Map<String, NotificationDto> byLanguage = new HashMap<>();
+            for (Map.Entry<Locale, List<NotificationDto>> entry : rendered.entrySet()) {
+                byLanguage.put(entry.getKey().toLanguageTag(), entry.getValue().get(i));
+            }
+            NotificationPush push = new NotificationPush(notification.getUserId(), byLanguage);
+            try {
+                redisTemplate.convertAndSend(PUSH_CHANNEL, objectMapper.writeValueAsString(push));
+            } catch (DataAccessException | JsonProcessingException e) {
+                log.warn("Could not broadcast notification ID: {}, delivering locally only. Error: {}",
+                        notification.getId(), e.getMessage());
+                deliver(push);
+            }
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            deliver(objectMapper.readValue(message.getBody(), NotificationPush.class));
+        } catch (IOException e) {
+            log.warn("Ignoring malformed notification push: {}",
+                    new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notification.stream.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        streams.forEach((userId, userStreams) -> userStreams.forEach(stream ->
+                sendExecutor.execute(() -> send(userId, stream.emitter(), SseEmitter.event().comment("heartbeat")))));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        streams.values().forEach(userStreams -> userStreams.forEach(stream -> stream.emitter().complete()));
+        streams.clear();
+        sendExecutor.shutdownNow();
+    }
+
+    private void deliver(NotificationPush push) {
+        List<Stream> userStreams = streams.get(push.userId());
+        if (userStreams == null) {
+            return;
+        }
+        NotificationDto fallback = push.notifications().get(NotificationRenderer.DEFAULT_LOCALE.toLanguageTag());
+        for (Stream stream : userStreams) {
+            NotificationDto notification = push.notifications().getOrDefault(stream.languageTag(), fallback);
+            sendExecutor.execute(() -> send(push.userId(), stream.emitter(), SseEmitter.event()
+                    .name(NOTIFICATION_EVENT)
+                    .id(String.valueOf(notification.getId()))
+                    .data(notification)));
+        }
+    }
+
+    private void send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Notification stream of user ID: {} is gone. Error: {}", userId, e.getMessage());
+            remove(userId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        streams.computeIfPresent(userId, (id, userStreams) -> {
+            userStreams.removeIf(stream -> stream.emitter() == emitter);
+            return userStreams.isEmpty() ? null : userStreams;
+        });
+    }
+
+    private record Stream(SseEmitter emitter, String languageTag) {
+    }
+
+    /**
+     * One notification for one user, rendered in every supported locale, keyed by language tag.
+     */
+    record NotificationPush(Long userId, Map<String, NotificationDto> notifications) {
+    }
+}
@@ -0,0 +1,47 @@
+package az.etaskify.service;
+
+import az.etaskify.dao.entity.NotificationEntity;
+import az.etaskify.dao.repository.NotificationRepository;
+import az.etaskify.dto.NotificationMessage;
+import az.etaskify.util.event.NotificationsCreatedEvent;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns delivered notification intents into {@link NotificationEntity} rows with one batched
+ * insert per delivery. Text is not stored; see {@link NotificationRenderer}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationWriter {
+    private final NotificationRepository notificationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void write(List<NotificationMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        List<NotificationEntity> notifications = new ArrayList<>(messages.size());
+        for (NotificationMessage message : messages) {
+            notifications.add(NotificationEntity.builder()
+                    .userId(message.recipientUserId())
+                    .type(message.type())
+                    .actorUserId(message.actorUserId())
+                    .organizationId(message.organizationId())
+                    .aggregateCount(Math.max(1, message.count()))
+                    .isRead(false)
+                    .build());
+        }
+        notificationRepository.saveAll(notifications);
+        eventPublisher.publishEvent(new NotificationsCreatedEvent(notifications));
+        log.info("Saved {} notifications", notifications.size());
+    }
+}
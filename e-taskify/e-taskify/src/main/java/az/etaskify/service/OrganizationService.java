@@ -1,6 +1,5 @@
 package az.etaskify.service;
 
-import az.etaskify.client.AuthClient;
 import az.etaskify.dao.entity.InviteEntity;
 import az.etaskify.dao.entity.JoinRequestEntity;
 import az.etaskify.dao.entity.OrganizationEntity;
@@ -13,39 +12,53 @@ import az.etaskify.dto.*;
 import az.etaskify.exception.*;
 import az.etaskify.mapper.JoinRequestMapper;
 import az.etaskify.mapper.OrganizationMapper;
+import az.etaskify.util.enums.BulkInviteStatus;
 import az.etaskify.util.enums.InviteStatus;
 import az.etaskify.util.enums.UserRole;
+import az.etaskify.util.event.MembershipChangedEvent;
+import az.etaskify.util.pagination.Cursor;
+import az.etaskify.util.pagination.PageSize;
 import feign.FeignException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import javax.naming.ServiceUnavailableException;
 import java.nio.file.AccessDeniedException;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class OrganizationService {
+    private static final int AUTOCOMPLETE_DEFAULT_LIMIT = 10;
+    private static final int AUTOCOMPLETE_MAX_LIMIT = 20;
+
     private final OrganizationRepository organizationRepository;
     private final OrganizationMapper organizationMapper;
-    private final AuthClient authClient;
     private final UserOrganizationRepository userOrganizationRepository;
     private final InviteRepository inviteRepository;
-    private final AuthClient authServiceClient;
+    private final UserLookupService userLookupService;
     private final NotificationService notificationService;
     private final JoinRequestRepository joinRequestRepository;
     private final JoinRequestMapper joinRequestMapper;
+    private final MembershipIndexService membershipIndexService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PendingRequestExpiryService pendingRequestExpiryService;
 
-    public ResponseEntity<String> createOrganization(OrganizationCreateRequest dto, String authHeader) {
+    public ResponseEntity<String> createOrganization(OrganizationCreateRequest dto, Long userId) {
         try {
-            var userId = authClient.validateToken(authHeader).getBody();
             var entity = organizationMapper.orgDtoToEntity(dto, userId);
             organizationRepository.save(entity);
+            eventPublisher.publishEvent(new MembershipChangedEvent(entity.getId()));
             return ResponseEntity.ok("The organization was successfully created");
         } catch (RuntimeException e) {
             return ResponseEntity.internalServerError().body("server error");
@@ -55,8 +68,7 @@ public class OrganizationService {
 
     @Transactional
     public InviteResponseDto inviteUserToOrganization(Long organizationId, InviteUserRequestDto requestDto,
-                                                      String authHeader) throws ServiceUnavailableException {
-        var userId = authClient.validateToken(authHeader).getBody();
+                                                      Long userId) throws ServiceUnavailableException {
         log.info("Attempting to invite user '{}' to organization ID: {} by user ID: {}", requestDto.username(),
                 organizationId, userId);
 
@@ -79,7 +91,7 @@ public class OrganizationService {
 
         UserDto invitedUserDto;
         try {
-            invitedUserDto = authServiceClient.findUserByUsername(requestDto.username());
+            invitedUserDto = userLookupService.findByUsername(requestDto.username());
             if (invitedUserDto == null || invitedUserDto.getId() == null) {
                 throw new InvitedUserNotFoundException("Invited user not found: " + requestDto.username());
             }
@@ -95,30 +107,26 @@ public class OrganizationService {
             throw new CannotInviteSelfException("You cannot invite yourself to the organization.");
         }
 
-        if (userOrganizationRepository.existsByUserIdAndOrganizationId(invitedUserId, organizationId)) {
+        if (membershipIndexService.isMember(invitedUserId, organizationId)) {
             throw new UserAlreadyMemberException("User '" + requestDto.username() + "' is already a member of this " +
                     "organization.");
         }
-        if (inviteRepository.existsByOrganizationIdAndInvitedUserIdAndStatus(organizationId, invitedUserId,
-                InviteStatus.PENDING)) {
-            throw new InviteAlreadyPendingException("An invitation is already pending for user '" +
-                    requestDto.username() + "'.");
-        }
-
-        InviteEntity newInvite = InviteEntity.builder()
-                .organization(organization)
-                .invitedUserId(invitedUserId)
-                .inviterUserId(userId)
-                .status(InviteStatus.PENDING)
-                .build();
 
-        InviteEntity savedInvite = inviteRepository.save(newInvite);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = pendingRequestExpiryService.newInviteExpiry();
+        InviteEntity savedInvite = inviteRepository
+                .insertPendingIfAbsent(organizationId, invitedUserId, userId, now, expiresAt)
+                .or(() -> inviteRepository.expireOverduePending(organizationId, invitedUserId, now) > 0
+                        ? inviteRepository.insertPendingIfAbsent(organizationId, invitedUserId, userId, now, expiresAt)
+                        : Optional.empty())
+                .orElseThrow(() -> new InviteAlreadyPendingException("An invitation is already pending for user '" +
+                        requestDto.username() + "'."));
 
         log.info("Successfully created invite ID: {} for user ID: {} to organization ID: {}", savedInvite.getId(),
                 invitedUserId, organizationId);
 
         try {
-            notificationService.sendInviteNotificationAsync(invitedUserId, userId, organization.getName());
+            notificationService.sendInviteNotificationAsync(invitedUserId, userId, organization.getId());
             log.info("Sent invite notification to user ID: {}", invitedUserId);
         } catch (Exception e) {
             log.error("Failed to send invite notification to user ID: {}. Error: {}", invitedUserId, e.getMessage(), e);
@@ -126,18 +134,124 @@ public class OrganizationService {
         return organizationMapper.mapToInviteResponseDto(savedInvite);
     }
 
-    public List<InviteResponseDto> listMyPendingInvites(String authHeader) {
-        var userId = authClient.validateToken(authHeader).getBody();
+    @Transactional
+    public BulkInviteResultDto inviteUsersToOrganization(Long organizationId, BulkInviteRequestDto requestDto,
+                                                         Long userId) throws ServiceUnavailableException {
+        log.info("Attempting to invite {} users to organization ID: {} by user ID: {}", requestDto.usernames().size(),
+                organizationId, userId);
+        requireInvitableOrganization(organizationId, userId);
+
+        Map<String, BulkInviteStatus> statuses = new LinkedHashMap<>();
+        for (String username : requestDto.usernames()) {
+            statuses.putIfAbsent(username.trim(), BulkInviteStatus.INVITED);
+        }
+
+        Map<String, UserDto> users;
+        try {
+            users = userLookupService.findByUsernames(statuses.keySet());
+        } catch (Exception e) {
+            throw new ServiceUnavailableException("Could not reach authentication service to verify users.");
+        }
+
+        Set<Long> candidateIds = new HashSet<>();
+        for (Map.Entry<String, BulkInviteStatus> entry : statuses.entrySet()) {
+            UserDto user = users.get(entry.getKey());
+            if (user == null || user.getId() == null) {
+                entry.setValue(BulkInviteStatus.USER_NOT_FOUND);
+            } else if (userId.equals(user.getId())) {
+                entry.setValue(BulkInviteStatus.CANNOT_INVITE_SELF);
+            } else {
+                candidateIds.add(user.getId());
+            }
+        }
+        Set<Long> memberIds = candidateIds.isEmpty() ? Set.of()
+                : userOrganizationRepository.findMemberUserIds(organizationId, candidateIds);
+
+        List<Long> inviteIds = new ArrayList<>();
+        for (Map.Entry<String, BulkInviteStatus> entry : statuses.entrySet()) {
+            if (entry.getValue() != BulkInviteStatus.INVITED) {
+                continue;
+            }
+            Long invitedUserId = users.get(entry.getKey()).getId();
+            if (memberIds.contains(invitedUserId)) {
+                entry.setValue(BulkInviteStatus.ALREADY_MEMBER);
+            } else {
+                inviteIds.add(invitedUserId);
+            }
+        }
+        Map<Long, InviteEntity> created = insertPendingInvites(organizationId, inviteIds, userId);
+
+        Map<String, InviteEntity> newInvites = new LinkedHashMap<>();
+        for (Map.Entry<String, BulkInviteStatus> entry : statuses.entrySet()) {
+            if (entry.getValue() != BulkInviteStatus.INVITED) {
+                continue;
+            }
+            InviteEntity invite = created.get(users.get(entry.getKey()).getId());
+            if (invite == null) {
+                entry.setValue(BulkInviteStatus.ALREADY_INVITED);
+            } else {
+                newInvites.put(entry.getKey(), invite);
+            }
+        }
+        notificationService.sendInviteNotifications(newInvites.values().stream()
+                .map(InviteEntity::getInvitedUserId)
+                .toList(), userId, organizationId);
+
+        List<BulkInviteResultItemDto> results = new ArrayList<>(requestDto.usernames().size());
+        Set<String> reported = new HashSet<>();
+        for (String username : requestDto.usernames()) {
+            String trimmed = username.trim();
+            InviteEntity invite = newInvites.get(trimmed);
+            boolean first = reported.add(trimmed);
+            results.add(BulkInviteResultItemDto.builder()
+                    .username(trimmed)
+                    .status(first ? statuses.get(trimmed) : BulkInviteStatus.DUPLICATE)
+                    .inviteId(first && invite != null ? invite.getId() : null)
+                    .build());
+        }
+        log.info("Created {} invites for organization ID: {} out of {} usernames", newInvites.size(), organizationId,
+                requestDto.usernames().size());
+        return BulkInviteResultDto.builder()
+                .invitedCount(newInvites.size())
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Inserts pending invites for {@code invitedUserIds} in one statement and returns the created
+     * ones by invited user id. Users whose only pending invite is overdue but not yet swept get
+     * that invite expired and are retried once; anyone else missing from the result already has
+     * a pending invite.
+     */
+    private Map<Long, InviteEntity> insertPendingInvites(Long organizationId, List<Long> invitedUserIds,
+                                                         Long inviterUserId) {
+        Map<Long, InviteEntity> created = new HashMap<>();
+        if (invitedUserIds.isEmpty()) {
+            return created;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = pendingRequestExpiryService.newInviteExpiry();
+        inviteRepository.insertAllPendingIfAbsent(organizationId, invitedUserIds.toArray(Long[]::new), inviterUserId,
+                now, expiresAt).forEach(invite -> created.put(invite.getInvitedUserId(), invite));
+
+        List<Long> conflicted = invitedUserIds.stream().filter(id -> !created.containsKey(id)).toList();
+        if (!conflicted.isEmpty() && inviteRepository.expireOverduePending(organizationId, conflicted, now) > 0) {
+            inviteRepository.insertAllPendingIfAbsent(organizationId, conflicted.toArray(Long[]::new), inviterUserId,
+                    now, expiresAt).forEach(invite -> created.put(invite.getInvitedUserId(), invite));
+        }
+        return created;
+    }
+
+    public List<InviteResponseDto> listMyPendingInvites(Long userId) {
         log.info("Fetching pending invites for user ID: {}", userId);
-        List<InviteEntity> pendingInvites = inviteRepository.findByInvitedUserIdAndStatusOrderByCreatedAtDesc(userId,
-                InviteStatus.PENDING);
+        List<InviteEntity> pendingInvites = inviteRepository.findUnexpiredByInvitedUserIdAndStatus(userId,
+                InviteStatus.PENDING, LocalDateTime.now());
 
         return organizationMapper.entityToDtoList(pendingInvites);
     }
 
     @Transactional
-    public InviteResponseDto acceptInvite(Long inviteId, String authHeader) throws AccessDeniedException {
-        var userId = authClient.validateToken(authHeader).getBody();
+    public InviteResponseDto acceptInvite(Long inviteId, Long userId) throws AccessDeniedException {
         log.info("User ID: {} attempting to accept invite ID: {}", userId, inviteId);
 
         InviteEntity invite = inviteRepository.findById(inviteId)
@@ -152,10 +266,11 @@ public class OrganizationService {
             throw new AccessDeniedException("You are not authorized to accept this invitation.");
         }
 
-        if (invite.getStatus() != InviteStatus.PENDING) {
+        InviteStatus inviteStatus = pendingRequestExpiryService.effectiveStatus(invite.getStatus(), invite.getExpiresAt());
+        if (inviteStatus != InviteStatus.PENDING) {
             unprocessableInviteLog(inviteId, invite);
             throw new InviteCannotBeProcessedException("This invitation cannot be processed (Status: " +
-                    invite.getStatus() + ").");
+                    inviteStatus + ").");
         }
 
         OrganizationEntity organization = invite.getOrganization();
@@ -172,6 +287,7 @@ public class OrganizationService {
                     .role(UserRole.MEMBER)
                     .build();
             userOrganizationRepository.save(membership);
+            eventPublisher.publishEvent(new MembershipChangedEvent(organization.getId()));
             log.info("User ID: {} successfully added to organization ID: {} with role: {}", userId,
                     organization.getId(), UserRole.MEMBER);
         }
@@ -181,7 +297,7 @@ public class OrganizationService {
         log.info("Invite ID: {} status updated to ACCEPTED", inviteId);
 
         try {
-            notificationService.sendInviteAcceptedNotification(invite.getInviterUserId(), userId, organization.getName());
+            notificationService.sendInviteAcceptedNotification(invite.getInviterUserId(), userId, organization.getId());
             log.info("Sent invite accepted notification to inviter ID: {}", invite.getInviterUserId());
         } catch (Exception e) {
             log.error("Failed to send invite accepted notification to inviter ID: {}. Error: {}",
@@ -192,8 +308,7 @@ public class OrganizationService {
     }
 
     @Transactional
-    public InviteResponseDto rejectInvite(Long inviteId, String authHeader) throws AccessDeniedException {
-        var userId = authClient.validateToken(authHeader).getBody();
+    public InviteResponseDto rejectInvite(Long inviteId, Long userId) throws AccessDeniedException {
         log.info("User ID: {} attempting to reject invite ID: {}", userId, inviteId);
 
         InviteEntity invite = inviteRepository.findById(inviteId)
@@ -208,10 +323,11 @@ public class OrganizationService {
             throw new AccessDeniedException("You are not authorized to reject this invitation.");
         }
 
-        if (invite.getStatus() != InviteStatus.PENDING) {
+        InviteStatus inviteStatus = pendingRequestExpiryService.effectiveStatus(invite.getStatus(), invite.getExpiresAt());
+        if (inviteStatus != InviteStatus.PENDING) {
             unprocessableInviteLog(inviteId, invite);
             throw new InviteCannotBeProcessedException("This invitation cannot be processed (Status: " +
-                    invite.getStatus() + ").");
+                    inviteStatus + ").");
         }
 
         invite.setStatus(InviteStatus.REJECTED);
@@ -220,7 +336,7 @@ public class OrganizationService {
 
         try {
             notificationService.sendInviteRejectedNotification(invite.getInviterUserId(), userId,
-                    invite.getOrganization().getName());
+                    invite.getOrganization().getId());
             log.info("Sent invite rejected notification to inviter ID: {}", invite.getInviterUserId());
         } catch (Exception e) {
             log.error("Failed to send invite rejected notification to inviter ID: {}. Error: {}",
@@ -230,22 +346,47 @@ public class OrganizationService {
         return organizationMapper.mapToInviteResponseDto(updatedInvite);
     }
 
-    public List<PublicOrganizationDto> findPublicOrganizations(String searchTerm) {
-        List<OrganizationEntity> organizations;
+    public PageResponseDto<PublicOrganizationDto> findPublicOrganizations(String searchTerm, Integer page, Integer size) {
+        int pageSize = PageSize.resolve(size);
+        int pageNumber = PageSize.resolvePage(page, pageSize);
+        List<OrganizationEntity> pageOrganizations;
+        boolean hasNext;
         if (searchTerm != null && !searchTerm.isBlank()) {
             log.info("Searching for public organization with term: {}", searchTerm);
-            organizations = organizationRepository.findByNameContainingIgnoreCaseAndIsPrivateFalse(searchTerm);
+            String term = searchTerm.trim().toLowerCase(Locale.ROOT);
+            List<OrganizationEntity> organizations = organizationRepository.searchPublicByName(term,
+                    "%" + escapeLikePattern(term) + "%", pageSize + 1, pageNumber * pageSize);
+            hasNext = organizations.size() > pageSize;
+            pageOrganizations = hasNext ? organizations.subList(0, pageSize) : organizations;
         } else {
             log.info("Listing all organizations");
-            organizations = organizationRepository.findByIsPrivateFalse();
+            Slice<OrganizationEntity> organizations = organizationRepository.findByIsPrivateFalseOrderByIdAsc(
+                    PageRequest.of(pageNumber, pageSize));
+            hasNext = organizations.hasNext();
+            pageOrganizations = organizations.getContent();
+        }
+        log.info("Found {} public organizations", pageOrganizations.size());
+        return PageResponseDto.<PublicOrganizationDto>builder()
+                .items(organizationMapper.mapToPublicOrganizationDtoList(pageOrganizations))
+                .page(pageNumber)
+                .size(pageSize)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    public List<PublicOrganizationDto> autocompletePublicOrganizations(String prefix, Integer limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
         }
-        log.info("Found {} public organizations", organizations.size());
-        return organizationMapper.mapToPublicOrganizationDtoList(organizations);
+        String term = prefix.trim().toLowerCase(Locale.ROOT);
+        int resolvedLimit = (limit == null || limit < 1) ? AUTOCOMPLETE_DEFAULT_LIMIT
+                : Math.min(limit, AUTOCOMPLETE_MAX_LIMIT);
+        return organizationMapper.mapToPublicOrganizationDtoList(
+                organizationRepository.autocompletePublicByName(term, escapeLikePattern(term) + "%", resolvedLimit));
     }
 
     @Transactional
-    public JoinRequestDto requestToJoinOrganization(Long organizationId, String authHeader) {
-        var userId = authClient.validateToken(authHeader).getBody();
+    public JoinRequestDto requestToJoinOrganization(Long organizationId, Long userId) {
         log.info("User ID: {} attempting to send join request to Organization ID: {}", userId, organizationId);
         OrganizationEntity organization = organizationRepository.findById(organizationId).orElseThrow(() -> {
             log.error("Organization not found with ID: {}", organizationId);
@@ -256,28 +397,27 @@ public class OrganizationService {
             throw new CannotRequestToJoinPrivateOrganizationException("You can only request to join public organizations.");
         }
 
-        if (userOrganizationRepository.existsByUserIdAndOrganizationId(userId, organizationId)) {
+        if (membershipIndexService.isMember(userId, organizationId)) {
             log.warn("User ID: {} is already a member of public Organization ID: {}", userId, organizationId);
             throw new UserAlreadyMemberException("You are already a member of this organization.");
         }
 
-        if (joinRequestRepository.existsByOrganizationIdAndUserIdAndStatus(organizationId, userId, InviteStatus.PENDING)) {
-            log.warn("User ID: {} already has a pending join request for Organization ID: {}", userId, organizationId);
-            throw new JoinRequestAlreadyPendingException("You already have a pending request to join this organization");
-        }
-
-        JoinRequestEntity newRequest = JoinRequestEntity.builder()
-                .userId(userId)
-                .organization(organization)
-                .status(InviteStatus.PENDING)
-                .build();
-
-        var savedRequest = joinRequestRepository.save(newRequest);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = pendingRequestExpiryService.newJoinRequestExpiry();
+        var savedRequest = joinRequestRepository
+                .insertPendingIfAbsent(organizationId, userId, now, expiresAt)
+                .or(() -> joinRequestRepository.expireOverduePending(organizationId, userId, now) > 0
+                        ? joinRequestRepository.insertPendingIfAbsent(organizationId, userId, now, expiresAt)
+                        : Optional.empty())
+                .orElseThrow(() -> {
+                    log.warn("User ID: {} already has a pending join request for Organization ID: {}", userId, organizationId);
+                    return new JoinRequestAlreadyPendingException("You already have a pending request to join this organization");
+                });
         log.info("Successfully created Join Request ID: {} for User ID: {} to organization ID: {}", savedRequest.getId(),
                 userId, organizationId);
         try {
             notificationService.sendJoinRequestReceivedNotification(organization.getOwnerId(), userId,
-                    organization.getName());
+                    organization.getId());
             log.info("Sent join request received notification to owner ID: {}", organization.getOwnerId());
         } catch (Exception e) {
             log.error("Failed to send join request received notification to owner ID: {}. Error: {}",
@@ -286,8 +426,8 @@ public class OrganizationService {
         return joinRequestMapper.mapToJoinRequestDto(savedRequest);
     }
 
-    public List<JoinRequestDto> listPendingJoinRequests(Long organizationId, String authHeader) {
-        var userId = authClient.validateToken(authHeader).getBody();
+    public CursorPageResponseDto<JoinRequestDto> listPendingJoinRequests(Long organizationId, String cursor,
+                                                                         Integer size, Long userId) {
         log.info("Owner ID: {} attempting to list pending join requests for Organization ID: {}", userId, organizationId);
 
         OrganizationEntity organization = organizationRepository.findById(organizationId)
@@ -298,29 +438,46 @@ public class OrganizationService {
             throw new NotAuthorizedException("You are not authorized to view join requests for this organization.");
         }
 
-        List<JoinRequestEntity> pendingRequests = joinRequestRepository.findByOrganizationIdAndStatus(organizationId, InviteStatus.PENDING);
-        log.info("Found {} pending join requests for Organization ID: {}", pendingRequests.size(), organizationId);
-
-        List<JoinRequestDto> dtos = pendingRequests.stream()
-                .map(request -> {
-                    JoinRequestDto dto = joinRequestMapper.mapToJoinRequestDto(request);
-                    try {
-                        UserDto userDto = authServiceClient.findUserById(request.getUserId());
-                        dto.setRequestingUsername(userDto != null ? userDto.getUsername() : "Unknown User");
-                    } catch (Exception e) {
-                        log.error("Could not fetch username for user ID {} while listing join requests", request.getUserId(), e);
-                        dto.setRequestingUsername("Error Fetching Name");
-                    }
-                    return dto;
-                })
-                .collect(Collectors.toList());
-
-        return dtos;
+        int pageSize = PageSize.resolve(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<JoinRequestEntity> pendingRequests;
+        if (cursor == null || cursor.isBlank()) {
+            pendingRequests = joinRequestRepository.findUnexpiredByOrganizationIdAndStatus(organizationId, InviteStatus.PENDING,
+                    LocalDateTime.now(), limit);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            pendingRequests = joinRequestRepository.findUnexpiredByOrganizationIdAndStatusAfter(organizationId,
+                    InviteStatus.PENDING, LocalDateTime.now(), after.createdAt(), after.id(), limit);
+        }
+
+        boolean hasMore = pendingRequests.size() > pageSize;
+        List<JoinRequestEntity> pageRequests = hasMore ? pendingRequests.subList(0, pageSize) : pendingRequests;
+        log.info("Found {} pending join requests for Organization ID: {}", pageRequests.size(), organizationId);
+
+        Map<Long, UserDto> users = userLookupService.findByIds(pageRequests.stream()
+                .map(JoinRequestEntity::getUserId)
+                .collect(Collectors.toSet()));
+        List<JoinRequestDto> dtos = new ArrayList<>(pageRequests.size());
+        for (JoinRequestEntity request : pageRequests) {
+            JoinRequestDto dto = joinRequestMapper.mapToJoinRequestDto(request);
+            UserDto user = users.get(request.getUserId());
+            dto.setRequestingUsername(user != null ? user.getUsername() : "Unknown User");
+            dtos.add(dto);
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            JoinRequestEntity last = pageRequests.get(pageRequests.size() - 1);
+            nextCursor = new Cursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return CursorPageResponseDto.<JoinRequestDto>builder()
+                .items(dtos)
+                .nextCursor(nextCursor)
+                .build();
     }
 
     @Transactional
-    public JoinRequestDto approveJoinRequest(Long requestId, String authHeader) {
-        var ownerId = authClient.validateToken(authHeader).getBody();
+    public JoinRequestDto approveJoinRequest(Long requestId, Long ownerId) {
         log.info("Owner ID: {} attempting to approve Join Request ID: {}", ownerId, requestId);
 
         JoinRequestEntity request = joinRequestRepository.findById(requestId)
@@ -336,9 +493,10 @@ public class OrganizationService {
             throw new NotAuthorizedException("You are not authorized to approve requests for this organization.");
         }
 
-        if (request.getStatus() != InviteStatus.PENDING) {
+        InviteStatus requestStatus = pendingRequestExpiryService.effectiveStatus(request.getStatus(), request.getExpiresAt());
+        if (requestStatus != InviteStatus.PENDING) {
             unprocessableJoinRequestLog(requestId,request);
-            throw new JoinRequestCannotBeProcessedException("This request cannot be processed (Status: " + request.getStatus() + ").");
+            throw new JoinRequestCannotBeProcessedException("This request cannot be processed (Status: " + requestStatus + ").");
         }
 
         Long requestingUserId = request.getUserId();
@@ -353,6 +511,7 @@ public class OrganizationService {
                     .role(UserRole.MEMBER)
                     .build();
             userOrganizationRepository.save(membership);
+            eventPublisher.publishEvent(new MembershipChangedEvent(organization.getId()));
             log.info("User ID: {} successfully added to Organization ID: {} with role: {}", requestingUserId, organization.getId(), UserRole.MEMBER);
         }
 
@@ -361,7 +520,7 @@ public class OrganizationService {
         log.info("Join Request ID: {} status updated to ACCEPTED", requestId);
 
         try {
-            notificationService.sendJoinRequestApprovedNotification(requestingUserId, organization.getName());
+            notificationService.sendJoinRequestApprovedNotification(requestingUserId, organization.getId());
             log.info("Sent join request approved notification to user ID: {}", requestingUserId);
         } catch (Exception e) {
             log.error("Failed to send join request approved notification to user ID: {}. Error: {}", requestingUserId, e.getMessage(), e);
@@ -371,8 +530,65 @@ public class OrganizationService {
     }
 
     @Transactional
-    public JoinRequestDto rejectJoinRequest(Long requestId, String authHeader) {
-        var ownerId = authClient.validateToken(authHeader).getBody();
+    public JoinRequestBulkDecisionResultDto approveJoinRequests(Long organizationId, List<Long> requestIds, Long ownerId) {
+        log.info("Owner ID: {} attempting to approve {} join requests for Organization ID: {}", ownerId,
+                requestIds.size(), organizationId);
+        OrganizationEntity organization = requireOwnedOrganization(organizationId, ownerId);
+        List<JoinRequestEntity> requests = joinRequestRepository.lockByIdsAndOrganizationIdAndStatus(
+                requestIds, organizationId, InviteStatus.PENDING, LocalDateTime.now());
+        if (requests.isEmpty()) {
+            return bulkDecisionResult(InviteStatus.ACCEPTED, requestIds, List.of());
+        }
+
+        Set<Long> requestingUserIds = requests.stream()
+                .map(JoinRequestEntity::getUserId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<Long> newMemberIds = new LinkedHashSet<>(requestingUserIds);
+        newMemberIds.removeAll(userOrganizationRepository.findMemberUserIds(organizationId, requestingUserIds));
+
+        List<UserOrganizationEntity> memberships = new ArrayList<>(newMemberIds.size());
+        for (Long userId : newMemberIds) {
+            memberships.add(UserOrganizationEntity.builder()
+                    .userId(userId)
+                    .organization(organization)
+                    .role(UserRole.MEMBER)
+                    .build());
+        }
+        userOrganizationRepository.saveAll(memberships);
+        if (!memberships.isEmpty()) {
+            eventPublisher.publishEvent(new MembershipChangedEvent(organizationId));
+        }
+
+        List<Long> processedIds = requests.stream().map(JoinRequestEntity::getId).toList();
+        joinRequestRepository.updateStatusByIds(processedIds, InviteStatus.ACCEPTED);
+        notificationService.sendJoinRequestApprovedNotifications(requestingUserIds, organizationId);
+        log.info("Approved {} join requests for Organization ID: {}, {} new members", processedIds.size(),
+                organizationId, memberships.size());
+        return bulkDecisionResult(InviteStatus.ACCEPTED, requestIds, processedIds);
+    }
+
+    @Transactional
+    public JoinRequestBulkDecisionResultDto rejectJoinRequests(Long organizationId, List<Long> requestIds, Long ownerId) {
+        log.info("Owner ID: {} attempting to reject {} join requests for Organization ID: {}", ownerId,
+                requestIds.size(), organizationId);
+        requireOwnedOrganization(organizationId, ownerId);
+        List<JoinRequestEntity> requests = joinRequestRepository.lockByIdsAndOrganizationIdAndStatus(
+                requestIds, organizationId, InviteStatus.PENDING, LocalDateTime.now());
+        if (requests.isEmpty()) {
+            return bulkDecisionResult(InviteStatus.REJECTED, requestIds, List.of());
+        }
+
+        List<Long> processedIds = requests.stream().map(JoinRequestEntity::getId).toList();
+        joinRequestRepository.updateStatusByIds(processedIds, InviteStatus.REJECTED);
+        notificationService.sendJoinRequestRejectedNotifications(requests.stream()
+                .map(JoinRequestEntity::getUserId)
+                .collect(Collectors.toCollection(LinkedHashSet::new)), organizationId);
+        log.info("Rejected {} join requests for Organization ID: {}", processedIds.size(), organizationId);
+        return bulkDecisionResult(InviteStatus.REJECTED, requestIds, processedIds);
+    }
+
+    @Transactional
+    public JoinRequestDto rejectJoinRequest(Long requestId, Long ownerId) {
         log.info("Owner ID: {} attempting to reject Join Request ID: {}", ownerId, requestId);
 
         JoinRequestEntity request = joinRequestRepository.findById(requestId)
@@ -388,9 +604,10 @@ public class OrganizationService {
             throw new NotAuthorizedException("You are not authorized to reject requests for this organization.");
         }
 
-        if (request.getStatus() != InviteStatus.PENDING) {
+        InviteStatus requestStatus = pendingRequestExpiryService.effectiveStatus(request.getStatus(), request.getExpiresAt());
+        if (requestStatus != InviteStatus.PENDING) {
             unprocessableJoinRequestLog(requestId,request);
-            throw new JoinRequestCannotBeProcessedException("This request cannot be processed (Status: " + request.getStatus() + ").");
+            throw new JoinRequestCannotBeProcessedException("This request cannot be processed (Status: " + requestStatus + ").");
         }
 
         Long requestingUserId = request.getUserId();
@@ -400,7 +617,7 @@ public class OrganizationService {
         log.info("Join Request ID: {} status updated to REJECTED", requestId);
 
         try {
-            notificationService.sendJoinRequestRejectedNotification(requestingUserId, organization.getName());
+            notificationService.sendJoinRequestRejectedNotification(requestingUserId, organization.getId());
             log.info("Sent join request rejected notification to user ID: {}", requestingUserId);
         } catch (Exception e) {
             log.error("Failed to send join request rejected notification to user ID: {}. Error: {}", requestingUserId, e.getMessage(), e);
@@ -410,6 +627,49 @@ public class OrganizationService {
     }
 
 
+    private OrganizationEntity requireInvitableOrganization(Long organizationId, Long userId) {
+        OrganizationEntity organization = organizationRepository.findById(organizationId)
+                .orElseThrow(() -> {
+                    log.error("Organization not found with ID: {}", organizationId);
+                    return new OrganizationNotFoundException("Organization not found with ID: " + organizationId);
+                });
+        if (!organization.getIsPrivate()) {
+            log.warn("Attempted to invite user to a public organization ID: {}", organizationId);
+            throw new CannotInviteToPublicOrganizationException("Invitations can only be sent for private organizations.");
+        }
+        if (!organization.getOwnerId().equals(userId)) {
+            throw new NotAuthorizedToInviteException("User is not authorized to send invitations for this organization.");
+        }
+        return organization;
+    }
+
+    private OrganizationEntity requireOwnedOrganization(Long organizationId, Long ownerId) {
+        OrganizationEntity organization = organizationRepository.findById(organizationId)
+                .orElseThrow(() -> new OrganizationNotFoundException("Organization not found with ID: " + organizationId));
+        if (!organization.getOwnerId().equals(ownerId)) {
+            log.warn("Unauthorized attempt by User ID: {} to manage join requests for Organization ID: {}", ownerId, organizationId);
+            throw new NotAuthorizedException("You are not authorized to manage requests for this organization.");
+        }
+        return organization;
+    }
+
+    private static JoinRequestBulkDecisionResultDto bulkDecisionResult(InviteStatus status, List<Long> requestedIds,
+                                                                       List<Long> processedIds) {
+        Set<Long> processed = new HashSet<>(processedIds);
+        return JoinRequestBulkDecisionResultDto.builder()
+                .status(status)
+                .processedRequestIds(processedIds)
+                .skippedRequestIds(requestedIds.stream()
+                        .filter(id -> !processed.contains(id))
+                        .distinct()
+                        .toList())
+                .build();
+    }
+
+    private static String escapeLikePattern(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     private void unprocessableInviteLog(Long inviteId, InviteEntity invite) {
         log.warn("Invite ID: {} cannot be processed because its status is {}", inviteId, invite.getStatus());
     }
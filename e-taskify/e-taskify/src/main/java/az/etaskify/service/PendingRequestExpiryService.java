@@ -0,0 +1,87 @@
+package az.etaskify.service;
+
+import az.etaskify.dao.repository.InviteRepository;
+import az.etaskify.dao.repository.JoinRequestRepository;
+import az.etaskify.util.enums.InviteStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+
+/**
+ * Gives invites and join requests their expiry time and moves overdue pending rows to
+ * {@link InviteStatus#EXPIRED}.
+ * <p>
+ * The sweep updates at most {@code pending-expiry.batch-size} rows per statement, each in its
+ * own short transaction, and skips rows another transaction holds, so it never keeps long
+ * locks on {@code invite} or {@code join_request}.
+ */
+@Slf4j
+@Service
+public class PendingRequestExpiryService {
+    private final InviteRepository inviteRepository;
+    private final JoinRequestRepository joinRequestRepository;
+    private final Duration inviteTtl;
+    private final Duration joinRequestTtl;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public PendingRequestExpiryService(InviteRepository inviteRepository,
+                                       JoinRequestRepository joinRequestRepository,
+                                       @Value("${pending-expiry.invite-ttl:14d}") Duration inviteTtl,
+                                       @Value("${pending-expiry.join-request-ttl:30d}") Duration joinRequestTtl,
+                                       @Value("${pending-expiry.batch-size:500}") int batchSize,
+                                       @Value("${pending-expiry.max-batches-per-run:100}") int maxBatchesPerRun) {
+        this.inviteRepository = inviteRepository;
+        this.joinRequestRepository = joinRequestRepository;
+        this.inviteTtl = inviteTtl;
+        this.joinRequestTtl = joinRequestTtl;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    public LocalDateTime newInviteExpiry() {
+        return LocalDateTime.now().plus(inviteTtl);
+    }
+
+    public LocalDateTime newJoinRequestExpiry() {
+        return LocalDateTime.now().plus(joinRequestTtl);
+    }
+
+    /**
+     * Status as callers should see it: a pending row past its expiry counts as expired even if
+     * the sweeper has not reached it yet.
+     */
+    public InviteStatus effectiveStatus(InviteStatus status, LocalDateTime expiresAt) {
+        if (status == InviteStatus.PENDING && expiresAt != null && !expiresAt.isAfter(LocalDateTime.now())) {
+            return InviteStatus.EXPIRED;
+        }
+        return status;
+    }
+
+    @Scheduled(fixedDelayString = "${pending-expiry.sweep-interval-ms:60000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        int invites = sweep(() -> inviteRepository.expirePending(now, batchSize));
+        int joinRequests = sweep(() -> joinRequestRepository.expirePending(now, batchSize));
+        if (invites > 0 || joinRequests > 0) {
+            log.info("Expired {} invites and {} join requests", invites, joinRequests);
+        }
+    }
+
+    private int sweep(IntSupplier expireBatch) {
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int expired = expireBatch.getAsInt();
+            total += expired;
+            if (expired < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+}
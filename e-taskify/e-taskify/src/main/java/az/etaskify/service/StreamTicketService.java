@@ -0,0 +1,48 @@
+package az.etaskify.service;
+
+import az.etaskify.dto.StreamTicketDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Issues short-lived, single-use tickets for opening a notification stream. The browser
+ * {@code EventSource} cannot send an {@code Authorization} header, so a client first exchanges its
+ * bearer token for a ticket and passes it as {@code ?ticket=}. Tickets live in Redis so any
+ * instance can redeem them, and are deleted on first use.
+ */
+@Service
+public class StreamTicketService {
+    private static final String KEY_PREFIX = "etaskify:notification:stream-ticket:";
+    private static final int TICKET_BYTES = 32;
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ticketTtl;
+    private final SecureRandom random = new SecureRandom();
+
+    public StreamTicketService(StringRedisTemplate redisTemplate,
+                               @Value("${notification.stream.ticket-ttl:30s}") Duration ticketTtl) {
+        this.redisTemplate = redisTemplate;
+        this.ticketTtl = ticketTtl;
+    }
+
+    public StreamTicketDto issue(Long userId) {
+        byte[] bytes = new byte[TICKET_BYTES];
+        random.nextBytes(bytes);
+        String ticket = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        redisTemplate.opsForValue().set(KEY_PREFIX + ticket, userId.toString(), ticketTtl);
+        return new StreamTicketDto(ticket, ticketTtl.toSeconds());
+    }
+
+    /**
+     * User id the ticket was issued to, or null if it is unknown, expired or already used.
+     */
+    public Long redeem(String ticket) {
+        String userId = redisTemplate.opsForValue().getAndDelete(KEY_PREFIX + ticket);
+        return userId == null ? null : Long.valueOf(userId);
+    }
+}
@@ -1,6 +1,5 @@
 package az.etaskify.service;
 
-import az.etaskify.client.AuthClient;
 import az.etaskify.dao.entity.OrganizationEntity;
 import az.etaskify.dao.entity.TaskAssigneeEntity;
 import az.etaskify.dao.entity.TaskEntity;
@@ -8,35 +7,46 @@ import az.etaskify.dao.repository.*;
 import az.etaskify.dto.*;
 import az.etaskify.exception.*;
 import az.etaskify.util.enums.VisibilityStatus;
+import az.etaskify.util.pagination.Cursor;
+import az.etaskify.util.pagination.PageSize;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.AccessDeniedException;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class TaskService {
+    private static final int EXPORT_CHUNK_SIZE = 500;
 
     private final TaskRepository taskRepository;
     private final TaskAssigneeRepository taskAssigneeRepository;
     private final OrganizationRepository organizationRepository;
-    private final UserOrganizationRepository userOrganizationRepository;
-    private final AuthClient authClient;
+    private final MembershipIndexService membershipIndexService;
+    private final UserLookupService userLookupService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
 
     @Transactional
-    public TaskResponseDto createTask(Long organizationId, TaskCreateRequestDto dto, String authHeader) {
-        Long currentUserId = authClient.validateToken(authHeader).getBody();
+    public TaskResponseDto createTask(Long organizationId, TaskCreateRequestDto dto, Long currentUserId) {
         log.info("User ID: {} attempting to create task in Organization ID: {}", currentUserId, organizationId);
 
         OrganizationEntity organization = organizationRepository.findById(organizationId)
                 .orElseThrow(() -> new OrganizationNotFoundException("Organization not found with ID: " + organizationId));
 
-        if (!userOrganizationRepository.existsByUserIdAndOrganizationId(currentUserId, organizationId)) {
+        if (!membershipIndexService.isMember(currentUserId, organizationId)) {
             log.warn("User ID: {} is not a member of Organization ID: {}", currentUserId, organizationId);
             throw new UserNotMemberOfOrganizationException("User is not a member of this organization.");
         }
@@ -63,7 +73,7 @@ public class TaskService {
                 for (Long assigneeId : uniqueAssigneeIds) {
                      if (assigneeId.equals(currentUserId)) continue;
 
-                    if (!userOrganizationRepository.existsByUserIdAndOrganizationId(assigneeId, organizationId)) {
+                    if (!membershipIndexService.isMember(assigneeId, organizationId)) {
                         log.warn("Attempted to assign non-member User ID: {} to Task ID: {}", assigneeId, savedTask.getId());
                         throw new InvalidTaskAssignmentException("User with ID " + assigneeId + " is not a member of this organization.");
                     }
@@ -85,8 +95,78 @@ public class TaskService {
     }
 
 
-    public TaskResponseDto getTaskById(Long taskId, String authHeader) throws AccessDeniedException {
-        Long currentUserId = authClient.validateToken(authHeader).getBody();
+    /**
+     * Creates many tasks in one transaction. Membership of every assignee is checked with a
+     * single query, and tasks and assignees are inserted in JDBC batches.
+     */
+    @Transactional
+    public List<TaskResponseDto> createTasks(Long organizationId, TaskBulkCreateRequestDto dto, Long currentUserId) {
+        List<TaskCreateRequestDto> taskDtos = dto.getTasks();
+        log.info("User ID: {} attempting to create {} tasks in Organization ID: {}", currentUserId, taskDtos.size(), organizationId);
+
+        OrganizationEntity organization = organizationRepository.findById(organizationId)
+                .orElseThrow(() -> new OrganizationNotFoundException("Organization not found with ID: " + organizationId));
+
+        if (!membershipIndexService.isMember(currentUserId, organizationId)) {
+            log.warn("User ID: {} is not a member of Organization ID: {}", currentUserId, organizationId);
+            throw new UserNotMemberOfOrganizationException("User is not a member of this organization.");
+        }
+
+        Set<Long> requestedAssigneeIds = new HashSet<>();
+        for (TaskCreateRequestDto taskDto : taskDtos) {
+            if (taskDto.getVisibility() == VisibilityStatus.CUSTOM) {
+                if (taskDto.getAssigneeUserIds() == null || taskDto.getAssigneeUserIds().isEmpty()) {
+                    log.warn("Custom visibility task '{}' submitted without assignees", taskDto.getTitle());
+                    throw new InvalidTaskAssignmentException("Custom visibility tasks must have at least one assignee.");
+                }
+                requestedAssigneeIds.addAll(taskDto.getAssigneeUserIds());
+            }
+        }
+        requestedAssigneeIds.remove(null);
+        requestedAssigneeIds.remove(currentUserId);
+        requireAssigneeMembership(organizationId, requestedAssigneeIds);
+
+        List<TaskEntity> tasks = new ArrayList<>(taskDtos.size());
+        for (TaskCreateRequestDto taskDto : taskDtos) {
+            tasks.add(TaskEntity.builder()
+                    .organization(organization)
+                    .title(taskDto.getTitle())
+                    .description(taskDto.getDescription())
+                    .createdBy(currentUserId)
+                    .visibility(taskDto.getVisibility())
+                    .build());
+        }
+        taskRepository.saveAll(tasks);
+
+        List<TaskAssigneeEntity> assignees = new ArrayList<>();
+        Map<Long, List<TaskAssigneeEntity>> assigneesByTaskId = new HashMap<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            TaskEntity task = tasks.get(i);
+            TaskCreateRequestDto taskDto = taskDtos.get(i);
+            if (task.getVisibility() != VisibilityStatus.CUSTOM) {
+                continue;
+            }
+            List<TaskAssigneeEntity> taskAssignees = new ArrayList<>();
+            for (Long assigneeId : new LinkedHashSet<>(taskDto.getAssigneeUserIds())) {
+                if (assigneeId == null || assigneeId.equals(currentUserId)) continue;
+                taskAssignees.add(TaskAssigneeEntity.builder()
+                        .taskEntity(task)
+                        .userId(assigneeId)
+                        .build());
+            }
+            assignees.addAll(taskAssignees);
+            assigneesByTaskId.put(task.getId(), taskAssignees);
+        }
+        if (!assignees.isEmpty()) {
+            taskAssigneeRepository.saveAll(assignees);
+        }
+
+        log.info("Created {} tasks with {} assignees in Organization ID: {} by User ID: {}",
+                tasks.size(), assignees.size(), organizationId, currentUserId);
+        return mapToTaskResponseDtos(tasks, assigneesByTaskId);
+    }
+
+    public TaskResponseDto getTaskById(Long taskId, Long currentUserId) throws AccessDeniedException {
         log.debug("User ID: {} attempting to access Task ID: {}", currentUserId, taskId);
 
         TaskEntity task = taskRepository.findById(taskId)
@@ -94,7 +174,7 @@ public class TaskService {
 
         Long organizationId = task.getOrganization().getId();
 
-        if (!userOrganizationRepository.existsByUserIdAndOrganizationId(currentUserId, organizationId)) {
+        if (!membershipIndexService.isMember(currentUserId, organizationId)) {
             log.warn("Access denied: User ID: {} is not a member of Organization ID: {} for Task ID: {}", currentUserId, organizationId, taskId);
             throw new AccessDeniedException("You are not a member of the organization this task belongs to.");
         }
@@ -121,41 +201,33 @@ public class TaskService {
     }
 
 
-    public List<TaskResponseDto> listVisibleTasksForOrganization(Long organizationId, String authHeader) {
-        Long currentUserId = authClient.validateToken(authHeader).getBody();
+    public CursorPageResponseDto<TaskResponseDto> listVisibleTasksForOrganization(Long organizationId, String cursor,
+                                                                               Integer size, Long currentUserId) {
         log.info("User ID: {} listing tasks for Organization ID: {}", currentUserId, organizationId);
 
-        if (!userOrganizationRepository.existsByUserIdAndOrganizationId(currentUserId, organizationId)) {
+        if (!membershipIndexService.isMember(currentUserId, organizationId)) {
             log.warn("User ID: {} is not a member of Organization ID: {}", currentUserId, organizationId);
-            return Collections.emptyList();
+            return emptyPage();
         }
 
-        List<TaskEntity> allTasks = taskRepository.findByOrganizationId(organizationId);
-
-        List<TaskResponseDto> visibleTasks = allTasks.stream()
-                .filter(task -> {
-                    if (task.getVisibility() == VisibilityStatus.PUBLIC) {
-                        return true;
-                    } else {
-                        return task.getCreatedBy().equals(currentUserId) ||
-                               taskAssigneeRepository.existsByTaskEntityIdAndUserId(task.getId(), currentUserId);
-                    }
-                })
-                .map(task -> {
-                     List<TaskAssigneeEntity> assignees = (task.getVisibility() == VisibilityStatus.CUSTOM)
-                                                 ? taskAssigneeRepository.findByTaskEntityId(task.getId())
-                                                 : Collections.emptyList();
-                    return mapToTaskResponseDto(task, assignees);
-                })
-                .collect(Collectors.toList());
+        int pageSize = PageSize.resolve(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<TaskEntity> visibleTaskEntities;
+        if (cursor == null || cursor.isBlank()) {
+            visibleTaskEntities = taskRepository.findVisibleTasks(organizationId, currentUserId, limit);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            visibleTaskEntities = taskRepository.findVisibleTasksAfter(organizationId, currentUserId,
+                    after.createdAt(), after.id(), limit);
+        }
 
-        log.info("Found {} visible tasks for User ID: {} in Organization ID: {}", visibleTasks.size(), currentUserId, organizationId);
-        return visibleTasks;
+        CursorPageResponseDto<TaskResponseDto> page = toPage(visibleTaskEntities, pageSize, false);
+        log.info("Found {} visible tasks for User ID: {} in Organization ID: {}", page.getItems().size(), currentUserId, organizationId);
+        return page;
     }
 
     @Transactional
-    public TaskResponseDto updateTask(Long taskId, Long organizationId, TaskUpdateRequestDto dto, String authHeader) throws AccessDeniedException {
-        Long currentUserId = authClient.validateToken(authHeader).getBody();
+    public TaskResponseDto updateTask(Long taskId, Long organizationId, TaskUpdateRequestDto dto, Long currentUserId) throws AccessDeniedException {
         log.info("User ID: {} attempting to update Task ID: {} in Organization ID: {}", currentUserId, taskId, organizationId);
 
         TaskEntity task = taskRepository.findByIdAndOrganizationId(taskId, organizationId)
@@ -170,32 +242,46 @@ public class TaskService {
         task.setDescription(dto.getDescription());
         task.setVisibility(dto.getVisibility());
 
-        taskAssigneeRepository.deleteByTaskEntityId(taskId);
-        log.debug("Cleared existing assignees for Task ID: {}", taskId);
-
-        List<TaskAssigneeEntity> newAssignees = new ArrayList<>();
+        Set<Long> targetAssigneeIds = new LinkedHashSet<>();
         if (dto.getVisibility() == VisibilityStatus.CUSTOM) {
             if (dto.getAssigneeUserIds() == null || dto.getAssigneeUserIds().isEmpty()) {
                 log.warn("Custom visibility task updated without assignees. Task ID: {}", taskId);
                  throw new InvalidTaskAssignmentException("Custom visibility tasks must have at least one assignee when updated.");
-            } else {
-                Set<Long> uniqueAssigneeIds = dto.getAssigneeUserIds().stream().collect(Collectors.toSet());
-                for (Long assigneeId : uniqueAssigneeIds) {
-                    if (!userOrganizationRepository.existsByUserIdAndOrganizationId(assigneeId, organizationId)) {
-                        log.warn("Attempted to assign non-member User ID: {} to Task ID: {} during update", assigneeId, taskId);
-                        throw new InvalidTaskAssignmentException("User with ID " + assigneeId + " is not a member of this organization.");
-                    }
-                    TaskAssigneeEntity assignee = TaskAssigneeEntity.builder()
-                            .taskEntity(task)
-                            .userId(assigneeId)
-                            .build();
-                    newAssignees.add(assignee);
-                }
-                if (!newAssignees.isEmpty()) {
-                    taskAssigneeRepository.saveAll(newAssignees);
-                    log.info("Updated assignees for custom Task ID: {}. Count: {}", taskId, newAssignees.size());
-                }
             }
+            targetAssigneeIds.addAll(dto.getAssigneeUserIds());
+            targetAssigneeIds.remove(null);
+        }
+
+        Set<Long> currentAssigneeIds = new HashSet<>(taskAssigneeRepository.findUserIdsByTaskId(taskId));
+        Set<Long> addedAssigneeIds = new LinkedHashSet<>(targetAssigneeIds);
+        addedAssigneeIds.removeAll(currentAssigneeIds);
+        Set<Long> removedAssigneeIds = new HashSet<>(currentAssigneeIds);
+        removedAssigneeIds.removeAll(targetAssigneeIds);
+
+        requireAssigneeMembership(organizationId, addedAssigneeIds);
+
+        if (!removedAssigneeIds.isEmpty()) {
+            taskAssigneeRepository.deleteByTaskIdAndUserIds(taskId, removedAssigneeIds);
+        }
+        if (!addedAssigneeIds.isEmpty()) {
+            List<TaskAssigneeEntity> addedAssignees = new ArrayList<>(addedAssigneeIds.size());
+            for (Long assigneeId : addedAssigneeIds) {
+                addedAssignees.add(TaskAssigneeEntity.builder()
+                        .taskEntity(task)
+                        .userId(assigneeId)
+                        .build());
+            }
+            taskAssigneeRepository.saveAll(addedAssignees);
+        }
+        log.info("Updated assignees for Task ID: {}. Added: {}, Removed: {}, Total: {}",
+                taskId, addedAssigneeIds.size(), removedAssigneeIds.size(), targetAssigneeIds.size());
+
+        List<TaskAssigneeEntity> newAssignees = new ArrayList<>(targetAssigneeIds.size());
+        for (Long assigneeId : targetAssigneeIds) {
+            newAssignees.add(TaskAssigneeEntity.builder()
+                    .taskEntity(task)
+                    .userId(assigneeId)
+                    .build());
         }
 
         TaskEntity updatedTask = taskRepository.save(task);
@@ -206,8 +292,7 @@ public class TaskService {
 
 
     @Transactional
-    public void deleteTask(Long taskId, Long organizationId, String authHeader) throws AccessDeniedException {
-        Long currentUserId = authClient.validateToken(authHeader).getBody();
+    public void deleteTask(Long taskId, Long organizationId, Long currentUserId) throws AccessDeniedException {
         log.info("User ID: {} attempting to delete Task ID: {} from Organization ID: {}", currentUserId, taskId, organizationId);
 
         TaskEntity task = taskRepository.findById(taskId)
@@ -235,60 +320,194 @@ public class TaskService {
     }
 
 
-    public List<TaskResponseDto> listMyAssignedTasks(Long organizationId, String authHeader) {
-        Long currentUserId = authClient.validateToken(authHeader).getBody();
+    public CursorPageResponseDto<TaskResponseDto> listMyAssignedTasks(Long organizationId, String cursor,
+                                                                      Integer size, Long currentUserId) {
         log.info("User ID: {} listing tasks assigned to them in Organization ID: {}", currentUserId, organizationId);
 
-        if (!userOrganizationRepository.existsByUserIdAndOrganizationId(currentUserId, organizationId)) {
+        if (!membershipIndexService.isMember(currentUserId, organizationId)) {
             log.warn("User ID: {} is not a member of Organization ID: {}, cannot list assigned tasks.", currentUserId, organizationId);
-            return Collections.emptyList();
+            return emptyPage();
+        }
+
+        int pageSize = PageSize.resolve(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<TaskEntity> assignedTaskEntities;
+        if (cursor == null || cursor.isBlank()) {
+            assignedTaskEntities = taskRepository.findAssignedTasks(organizationId, currentUserId, limit);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            assignedTaskEntities = taskRepository.findAssignedTasksAfter(organizationId, currentUserId,
+                    after.createdAt(), after.id(), limit);
+        }
+
+        CursorPageResponseDto<TaskResponseDto> page = toPage(assignedTaskEntities, pageSize, true);
+        log.info("Found {} tasks assigned to User ID: {} in Organization ID: {}", page.getItems().size(), currentUserId, organizationId);
+        return page;
+    }
+
+
+    public PageResponseDto<TaskResponseDto> searchTasks(Long organizationId, String query, Integer page,
+                                                        Integer size, Long currentUserId) {
+        log.info("User ID: {} searching tasks in Organization ID: {}", currentUserId, organizationId);
+        requireMembership(organizationId, currentUserId);
+
+        int pageSize = PageSize.resolve(size);
+        int pageNumber = PageSize.resolvePage(page, pageSize);
+        if (query == null || query.isBlank()) {
+            return PageResponseDto.<TaskResponseDto>builder()
+                    .items(Collections.emptyList())
+                    .page(pageNumber)
+                    .size(pageSize)
+                    .build();
+        }
+
+        List<TaskEntity> tasks = taskRepository.searchVisibleTasks(organizationId, currentUserId, query.trim(),
+                pageSize + 1, pageNumber * pageSize);
+        boolean hasNext = tasks.size() > pageSize;
+        List<TaskEntity> pageTasks = hasNext ? tasks.subList(0, pageSize) : tasks;
+
+        Map<Long, List<TaskAssigneeEntity>> assigneesByTaskId = findAssigneesByTaskId(pageTasks.stream()
+                .filter(task -> task.getVisibility() == VisibilityStatus.CUSTOM)
+                .map(TaskEntity::getId)
+                .collect(Collectors.toList()));
+        log.info("Search in Organization ID: {} returned {} tasks", organizationId, pageTasks.size());
+        return PageResponseDto.<TaskResponseDto>builder()
+                .items(mapToTaskResponseDtos(pageTasks, assigneesByTaskId))
+                .page(pageNumber)
+                .size(pageSize)
+                .hasNext(hasNext)
+                .build();
+    }
+
+
+    public void requireMembership(Long organizationId, Long currentUserId) {
+        if (!membershipIndexService.isMember(currentUserId, organizationId)) {
+            log.warn("User ID: {} is not a member of Organization ID: {}", currentUserId, organizationId);
+            throw new UserNotMemberOfOrganizationException("User is not a member of this organization.");
+        }
+    }
+
+    /**
+     * Writes every task visible to the user as one JSON document per line. Rows are read
+     * through a database cursor and handled in chunks; each chunk is written and then
+     * detached from the persistence context so memory stays flat for any organization size.
+     */
+    @Transactional
+    public void exportVisibleTasks(Long organizationId, Long currentUserId, OutputStream outputStream) throws IOException {
+        log.info("User ID: {} exporting tasks of Organization ID: {}", currentUserId, organizationId);
+        long exported = 0;
+        try (Stream<TaskEntity> tasks = taskRepository.streamVisibleTasks(organizationId, currentUserId)) {
+            Iterator<TaskEntity> iterator = tasks.iterator();
+            List<TaskEntity> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == EXPORT_CHUNK_SIZE) {
+                    exported += writeExportChunk(chunk, outputStream);
+                }
+            }
+            exported += writeExportChunk(chunk, outputStream);
         }
+        log.info("Exported {} tasks of Organization ID: {} for User ID: {}", exported, organizationId, currentUserId);
+    }
+
+    private int writeExportChunk(List<TaskEntity> chunk, OutputStream outputStream) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        Map<Long, List<TaskAssigneeEntity>> assigneesByTaskId = findAssigneesByTaskId(chunk.stream()
+                .filter(task -> task.getVisibility() == VisibilityStatus.CUSTOM)
+                .map(TaskEntity::getId)
+                .collect(Collectors.toList()));
+        for (TaskResponseDto dto : mapToTaskResponseDtos(chunk, assigneesByTaskId)) {
+            outputStream.write(objectMapper.writeValueAsBytes(dto));
+            outputStream.write('\n');
+        }
+        outputStream.flush();
+
+        int written = chunk.size();
+        chunk.clear();
+        entityManager.clear();
+        return written;
+    }
+
+    private CursorPageResponseDto<TaskResponseDto> toPage(List<TaskEntity> tasks, int pageSize, boolean allAssignees) {
+        boolean hasMore = tasks.size() > pageSize;
+        List<TaskEntity> pageTasks = hasMore ? tasks.subList(0, pageSize) : tasks;
+
+        Map<Long, List<TaskAssigneeEntity>> assigneesByTaskId = findAssigneesByTaskId(pageTasks.stream()
+                .filter(task -> allAssignees || task.getVisibility() == VisibilityStatus.CUSTOM)
+                .map(TaskEntity::getId)
+                .collect(Collectors.toList()));
 
-        List<TaskAssigneeEntity> myAssignments = taskAssigneeRepository.findByUserId(currentUserId);
+        String nextCursor = null;
+        if (hasMore) {
+            TaskEntity last = pageTasks.get(pageTasks.size() - 1);
+            nextCursor = new Cursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return CursorPageResponseDto.<TaskResponseDto>builder()
+                .items(mapToTaskResponseDtos(pageTasks, assigneesByTaskId))
+                .nextCursor(nextCursor)
+                .build();
+    }
 
-        List<TaskResponseDto> assignedTasksInOrg = myAssignments.stream()
-                .map(TaskAssigneeEntity::getTaskEntity)
-                .filter(Objects::nonNull)
-                .filter(task -> task.getOrganization() != null && task.getOrganization().getId().equals(organizationId))
-                .map(task -> {
-                    List<TaskAssigneeEntity> assigneesForThisTask = taskAssigneeRepository.findByTaskEntityId(task.getId());
-                    return mapToTaskResponseDto(task, assigneesForThisTask);
-                })
-                .collect(Collectors.toList());
+    private CursorPageResponseDto<TaskResponseDto> emptyPage() {
+        return CursorPageResponseDto.<TaskResponseDto>builder()
+                .items(Collections.emptyList())
+                .build();
+    }
 
-        log.info("Found {} tasks assigned to User ID: {} in Organization ID: {}", assignedTasksInOrg.size(), currentUserId, organizationId);
-        return assignedTasksInOrg;
+    private void requireAssigneeMembership(Long organizationId, Set<Long> assigneeIds) {
+        if (assigneeIds.isEmpty()) {
+            return;
+        }
+        Set<Long> memberIds = membershipIndexService.findMemberUserIds(organizationId, assigneeIds);
+        for (Long assigneeId : assigneeIds) {
+            if (!memberIds.contains(assigneeId)) {
+                log.warn("Attempted to assign non-member User ID: {} in Organization ID: {}", assigneeId, organizationId);
+                throw new InvalidTaskAssignmentException("User with ID " + assigneeId + " is not a member of this organization.");
+            }
+        }
     }
 
+    private Map<Long, List<TaskAssigneeEntity>> findAssigneesByTaskId(List<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return taskAssigneeRepository.findByTaskIds(taskIds).stream()
+                .collect(Collectors.groupingBy(assignee -> assignee.getTaskEntity().getId()));
+    }
 
     private TaskResponseDto mapToTaskResponseDto(TaskEntity task, List<TaskAssigneeEntity> assignees) {
         if (task == null) return null;
 
-        String creatorUsername = "Unknown";
-        try {
-            UserDto creatorDto = authClient.findUserById(task.getCreatedBy());
-            if (creatorDto != null && creatorDto.getUsername() != null) {
-                creatorUsername = creatorDto.getUsername();
-            }
-        } catch (Exception e) {
-            log.error("Could not fetch username for creator ID: {}", task.getCreatedBy(), e);
+        Set<Long> userIds = new HashSet<>();
+        collectUserIds(task, assignees, userIds);
+        return mapToTaskResponseDto(task, assignees, fetchUsernames(userIds));
+    }
+
+    private List<TaskResponseDto> mapToTaskResponseDtos(List<TaskEntity> tasks,
+                                                        Map<Long, List<TaskAssigneeEntity>> assigneesByTaskId) {
+        Set<Long> userIds = new HashSet<>();
+        for (TaskEntity task : tasks) {
+            collectUserIds(task, assigneesByTaskId.get(task.getId()), userIds);
         }
+        Map<Long, String> usernames = fetchUsernames(userIds);
 
+        List<TaskResponseDto> dtos = new ArrayList<>(tasks.size());
+        for (TaskEntity task : tasks) {
+            dtos.add(mapToTaskResponseDto(task, assigneesByTaskId.get(task.getId()), usernames));
+        }
+        return dtos;
+    }
+
+    private TaskResponseDto mapToTaskResponseDto(TaskEntity task, List<TaskAssigneeEntity> assignees,
+                                                 Map<Long, String> usernames) {
         List<TaskAssigneeDto> assigneeDtos = new ArrayList<>();
         if (assignees != null && !assignees.isEmpty()) {
             for (TaskAssigneeEntity assignee : assignees) {
-                String assigneeUsername = "Unknown";
-                try {
-                    UserDto assigneeDto = authClient.findUserById(assignee.getUserId());
-                    if (assigneeDto != null && assigneeDto.getUsername() != null) {
-                        assigneeUsername = assigneeDto.getUsername();
-                    }
-                } catch (Exception e) {
-                    log.error("Could not fetch username for assignee ID: {}", assignee.getUserId(), e);
-                }
                 assigneeDtos.add(TaskAssigneeDto.builder()
                         .userId(assignee.getUserId())
-                        .username(assigneeUsername)
+                        .username(usernames.getOrDefault(assignee.getUserId(), "Unknown"))
                         .build());
             }
         }
@@ -299,10 +518,29 @@ public class TaskService {
                 .title(task.getTitle())
                 .description(task.getDescription())
                 .createdByUserId(task.getCreatedBy())
-                .createdByUsername(creatorUsername)
+                .createdByUsername(usernames.getOrDefault(task.getCreatedBy(), "Unknown"))
                 .visibility(task.getVisibility())
                 .createdAt(task.getCreatedAt())
                 .assignees(assigneeDtos)
                 .build();
     }
-}
\ No newline at end of file
+
+    private void collectUserIds(TaskEntity task, List<TaskAssigneeEntity> assignees, Set<Long> userIds) {
+        userIds.add(task.getCreatedBy());
+        if (assignees != null) {
+            for (TaskAssigneeEntity assignee : assignees) {
+                userIds.add(assignee.getUserId());
+            }
+        }
+    }
+
+    private Map<Long, String> fetchUsernames(Set<Long> userIds) {
+        Map<Long, String> usernames = new HashMap<>();
+        userLookupService.findByIds(userIds).forEach((userId, user) -> {
+            if (user.getUsername() != null) {
+                usernames.put(userId, user.getUsername());
+            }
+        });
+        return usernames;
+    }
+}
@@ -0,0 +1,121 @@
+package az.etaskify.service;
+
+import az.etaskify.dao.entity.NotificationEntity;
+import az.etaskify.dao.repository.NotificationRepository;
+import az.etaskify.util.event.NotificationsCreatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Per-user unread notification counters kept in Redis, so the unread badge does not run a
+ * {@code count(*)} on every poll.
+ * <p>
+ * A counter is seeded from the database on first read and then only adjusted: new notifications
+ * increment it, but only if it already exists, so a missing counter is never resurrected with a
+ * partial value. Marking everything read drops it. Counters expire after
+ * {@code notification.unread-counter.ttl}, which also bounds any drift.
+ * <p>
+ * Every increment and reset also bumps a per-user version. Seeding reads the version before
+ * counting and only stores its count if the version is unchanged, so a notification or a
+ * mark-all-read that lands between the count and the store cannot be overwritten by the
+ * stale count.
+ */
+@Slf4j
+@Service
+public class UnreadCounterService {
+    private static final String KEY_PREFIX = "etaskify:notification:unread:";
+    private static final String VERSION_KEY_PREFIX = "etaskify:notification:unread-version:";
+    private static final String NO_VERSION = "0";
+    private static final RedisScript<Long> SEED_IF_VERSION_UNCHANGED = new DefaultRedisScript<>(
+            "local version = redis.call('GET', KEYS[2]) or '" + NO_VERSION + "' " +
+                    "if version ~= ARGV[1] then return 0 end " +
+                    "if redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3], 'NX') then return 1 end " +
+                    "return 0", Long.class);
+    private static final RedisScript<Long> INCREMENT_IF_EXISTS = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) redis.call('PEXPIRE', KEYS[2], ARGV[2]) " +
+                    "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCRBY', KEYS[1], ARGV[1]) end " +
+                    "return nil", Long.class);
+    private static final RedisScript<Long> RESET = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) redis.call('PEXPIRE', KEYS[2], ARGV[1]) " +
+                    "return redis.call('DEL', KEYS[1])", Long.class);
+
+    private final NotificationRepository notificationRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public UnreadCounterService(NotificationRepository notificationRepository,
+                                StringRedisTemplate redisTemplate,
+                                @Value("${notification.unread-counter.ttl:10m}") Duration ttl) {
+        this.notificationRepository = notificationRepository;
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    public long getUnreadCount(Long userId) {
+        List<String> keys = keys(userId);
+        String version = null;
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            if (values != null && values.get(0) != null) {
+                return Long.parseLong(values.get(0));
+            }
+            version = values == null || values.get(1) == null ? NO_VERSION : values.get(1);
+        } catch (DataAccessException | NumberFormatException e) {
+            log.warn("Unread counter for user ID: {} could not be read. Error: {}", userId, e.getMessage());
+        }
+
+        long count = notificationRepository.countByUserIdAndIsReadFalse(userId);
+        if (version != null) {
+            try {
+                redisTemplate.execute(SEED_IF_VERSION_UNCHANGED, keys, version, String.valueOf(count),
+                        String.valueOf(ttl.toMillis()));
+            } catch (DataAccessException e) {
+                log.warn("Unread counter for user ID: {} could not be stored. Error: {}", userId, e.getMessage());
+            }
+        }
+        return count;
+    }
+
+    public void reset(Long userId) {
+        try {
+            redisTemplate.execute(RESET, keys(userId), String.valueOf(ttl.toMillis()));
+        } catch (DataAccessException e) {
+            log.warn("Unread counter for user ID: {} could not be reset. Error: {}", userId, e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationsCreated(NotificationsCreatedEvent event) {
+        Map<Long, Long> createdPerUser = event.notifications().stream()
+                .collect(Collectors.groupingBy(NotificationEntity::getUserId, Collectors.counting()));
+        try {
+            for (Map.Entry<Long, Long> entry : createdPerUser.entrySet()) {
+                redisTemplate.execute(INCREMENT_IF_EXISTS, keys(entry.getKey()),
+                        String.valueOf(entry.getValue()), String.valueOf(ttl.toMillis()));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Unread counters could not be incremented, dropping them instead. Error: {}", e.getMessage());
+            createdPerUser.keySet().forEach(this::reset);
+        }
+    }
+
+    /**
+     * Counter and version key of one user. The hash tag keeps both in the same cluster slot, as
+     * the scripts touch them together.
+     */
+    private static List<String> keys(Long userId) {
+        String tag = "{" + userId + "}";
+        return List.of(KEY_PREFIX + tag, VERSION_KEY_PREFIX + tag);
+    }
+}
@@ -0,0 +1,510 @@
+package az.etaskify.service;
+
+import az.etaskify.client.AuthClient;
+import az.etaskify.dto.CacheStatsDto;
+import az.etaskify.dto.UserDto;
+import az.etaskify.util.cache.LruCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cached front for the user lookups of {@link AuthClient}.
+ * <p>
+ * Entries live in a size-bounded in-process LRU (L1) backed by Redis (L2). An entry is
+ * fresh for {@code user-cache.fresh-ttl}; after that it is still served until
+ * {@code user-cache.max-stale} while a background task reloads it from the auth service.
+ * If the auth service cannot be reached, expired L1 entries are served rather than nothing.
+ * <p>
+ * Usernames are cached under a trimmed, lower-cased key, and batch results are keyed by the
+ * value the caller asked for, so a lookup that differs from the stored username only in case
+ * still finds the user.
+ */
+@Slf4j
+@Service
+public class UserLookupService {
+    private static final String ID_KEY_PREFIX = "etaskify:user:id:";
+    private static final String USERNAME_KEY_PREFIX = "etaskify:user:username:";
+
+    private final AuthClient authClient;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final long freshMillis;
+    private final Duration maxStale;
+
+    private final LruCache<Long, CachedUser> byId;
+    private final LruCache<String, CachedUser> byUsername;
+    private final Set<Long> refreshingIds = ConcurrentHashMap.newKeySet();
+    private final Set<String> refreshingUsernames = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshExecutor;
+
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder backgroundRefreshes = new LongAdder();
+    private final LongAdder totalLoadNanos = new LongAdder();
+    private final AtomicLong maxLoadNanos = new AtomicLong();
+
+    public UserLookupService(AuthClient authClient,
+                             StringRedisTemplate redisTemplate,
+                             ObjectMapper objectMapper,
+                             @Value("${user-cache.l1.max-size:10000}") int maxSize,
+                             @Value("${user-cache.fresh-ttl:5m}") Duration freshTtl,
+                             @Value("${user-cache.max-stale:1h}") Duration maxStale,
+                             @Value("${user-cache.refresh-threads:2}") int refreshThreads) {
+        this.authClient = authClient;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.freshMillis = freshTtl.toMillis();
+        this.maxStale = maxStale;
+        this.byId = new LruCache<>(maxSize);
+        this.byUsername = new LruCache<>(maxSize);
+        this.refreshExecutor = new ThreadPoolExecutor(refreshThreads, refreshThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(1000), runnable -> {
+                    Thread thread = new Thread(runnable, "user-cache-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    public Optional<UserDto> findById(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(findByIds(Set.of(userId)).get(userId));
+    }
+
+    /**
+     * Resolves every id it can; ids the auth service does not know, or cannot answer for
+     * right now, are simply absent from the result.
+     */
+    public Map<Long, UserDto> findByIds(Collection<Long> userIds) {
+        Map<Long, UserDto> result = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+        Set<Long> stale = new HashSet<>();
+        long now = System.currentTimeMillis();
+
+        for (Long userId : userIds) {
+            if (userId == null || result.containsKey(userId)) {
+                continue;
+            }
+            CachedUser cached = byId.get(userId);
+            if (cached != null && !isExpired(cached, now)) {
+                result.put(userId, cached.toDto());
+                recordHit(cached, now, l1Hits);
+                if (isStale(cached, now)) {
+                    stale.add(userId);
+                }
+            } else {
+                missing.add(userId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (CachedUser cached : readFromRedis(missing.stream().map(id -> ID_KEY_PREFIX + id).toList())) {
+                if (!missing.remove(cached.id())) {
+                    continue;
+                }
+                putLocal(cached);
+                result.put(cached.id(), cached.toDto());
+                recordHit(cached, now, l2Hits);
+                if (isStale(cached, now)) {
+                    stale.add(cached.id());
+                }
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            misses.add(missing.size());
+            try {
+                for (CachedUser loaded : loadByIds(missing)) {
+                    result.put(loaded.id(), loaded.toDto());
+                }
+            } catch (Exception e) {
+                log.error("Could not load {} users from Auth Service, serving expired entries where available",
+                        missing.size(), e);
+                for (Long userId : missing) {
+                    CachedUser expired = byId.get(userId);
+                    if (expired != null) {
+                        result.put(userId, expired.toDto());
+                    }
+                }
+            }
+        }
+
+        if (!stale.isEmpty()) {
+            refreshIdsInBackground(stale);
+        }
+        return result;
+    }
+
+    /**
+     * Looks a user up by username. Errors from the auth service are propagated on a cache
+     * miss so callers can tell a missing user apart from an unavailable service.
+     */
+    public UserDto findByUsername(String username) {
+        long now = System.currentTimeMillis();
+        String key = usernameKey(username);
+        CachedUser cached = byUsername.get(key);
+        if (cached != null && !isExpired(cached, now)) {
+            recordHit(cached, now, l1Hits);
+            if (isStale(cached, now)) {
+                refreshUsernameInBackground(username);
+            }
+            return cached.toDto();
+        }
+
+        List<CachedUser> fromRedis = readFromRedis(List.of(USERNAME_KEY_PREFIX + key));
+        if (!fromRedis.isEmpty()) {
+            CachedUser remote = fromRedis.get(0);
+            putLocal(remote);
+            recordHit(remote, now, l2Hits);
+            if (isStale(remote, now)) {
+                refreshUsernameInBackground(username);
+            }
+            return remote.toDto();
+        }
+
+        misses.increment();
+        CachedUser loaded = loadByUsername(username);
+        return loaded != null ? loaded.toDto() : null;
+    }
+
+    /**
+     * Batch form of {@link #findByUsername}, keyed by the usernames as requested. Usernames the
+     * auth service does not know are absent from the result; errors from the auth service are
+     * propagated for the usernames that missed.
+     */
+    public Map<String, UserDto> findByUsernames(Collection<String> usernames) {
+        Map<String, UserDto> result = new HashMap<>();
+        Map<String, Set<String>> missing = new LinkedHashMap<>();
+        Set<String> stale = new HashSet<>();
+        long now = System.currentTimeMillis();
+
+        for (String username : usernames) {
+            if (username == null || result.containsKey(username)) {
+                continue;
+            }
+            String key = usernameKey(username);
+            CachedUser cached = byUsername.get(key);
+            if (cached != null && !isExpired(cached, now)) {
+                result.put(username, cached.toDto());
+                recordHit(cached, now, l1Hits);
+                if (isStale(cached, now)) {
+                    stale.add(username);
+                }
+            } else {
+                missing.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(username);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (CachedUser cached : readFromRedis(missing.keySet().stream().map(key -> USERNAME_KEY_PREFIX + key).toList())) {
+                Set<String> requested = missing.remove(usernameKey(cached.username()));
+                if (requested == null) {
+                    continue;
+                }
+                putLocal(cached);
+                recordHit(cached, now, l2Hits);
+                for (String username : requested) {
+                    result.put(username, cached.toDto());
+                }
+                if (isStale(cached, now)) {
+                    stale.addAll(requested);
+                }
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            misses.add(missing.size());
+            Set<String> requested = new LinkedHashSet<>();
+            missing.values().forEach(requested::addAll);
+            for (CachedUser loaded : loadByUsernames(requested)) {
+                for (String username : missing.getOrDefault(usernameKey(loaded.username()), Set.of())) {
+                    result.put(username, loaded.toDto());
+                }
+            }
+        }
+
+        if (!stale.isEmpty()) {
+            refreshUsernamesInBackground(stale);
+        }
+        return result;
+    }
+
+    public CacheStatsDto getStats() {
+        long hits = l1Hits.sum() + l2Hits.sum() + staleHits.sum();
+        long lookups = hits + misses.sum();
+        long loadCount = loads.sum();
+        return CacheStatsDto.builder()
+                .l1Hits(l1Hits.sum())
+                .l2Hits(l2Hits.sum())
+                .staleHits(staleHits.sum())
+                .misses(misses.sum())
+                .hitRate(lookups == 0 ? 0d : (double) hits / lookups)
+                .loads(loadCount)
+                .loadFailures(loadFailures.sum())
+                .backgroundRefreshes(backgroundRefreshes.sum())
+                .averageLoadMillis(loadCount == 0 ? 0d : totalLoadNanos.sum() / 1_000_000d / loadCount)
+                .maxLoadMillis(TimeUnit.NANOSECONDS.toMillis(maxLoadNanos.get()))
+                .l1Size(byId.size())
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private List<CachedUser> loadByIds(Set<Long> userIds) {
+        long start = System.nanoTime();
+        List<UserDto> users;
+        try {
+            users = authClient.findUsersByIds(userIds);
+        } catch (RuntimeException e) {
+            loadFailures.increment();
+            throw e;
+        } finally {
+            recordLoad(start);
+        }
+
+        long loadedAt = System.currentTimeMillis();
+        List<CachedUser> loaded = new ArrayList<>();
+        if (users != null) {
+            for (UserDto user : users) {
+                if (user != null && user.getId() != null) {
+                    loaded.add(CachedUser.of(user, loadedAt));
+                }
+            }
+        }
+        store(loaded);
+        return loaded;
+    }
+
+    private List<CachedUser> loadByUsernames(Set<String> usernames) {
+        long start = System.nanoTime();
+        List<UserDto> users;
+        try {
+            users = authClient.findUsersByUsernames(usernames);
+        } catch (RuntimeException e) {
+            loadFailures.increment();
+            throw e;
+        } finally {
+            recordLoad(start);
+        }
+
+        long loadedAt = System.currentTimeMillis();
+        List<CachedUser> loaded = new ArrayList<>();
+        if (users != null) {
+            for (UserDto user : users) {
+                if (user != null && user.getId() != null && user.getUsername() != null) {
+                    loaded.add(CachedUser.of(user, loadedAt));
+                }
+            }
+        }
+        store(loaded);
+        return loaded;
+    }
+
+    private CachedUser loadByUsername(String username) {
+        long start = System.nanoTime();
+        UserDto user;
+        try {
+            user = authClient.findUserByUsername(username);
+        } catch (RuntimeException e) {
+            loadFailures.increment();
+            throw e;
+        } finally {
+            recordLoad(start);
+        }
+
+        if (user == null || user.getId() == null) {
+            return null;
+        }
+        CachedUser loaded = CachedUser.of(user, System.currentTimeMillis());
+        store(List.of(loaded));
+        return loaded;
+    }
+
+    private void refreshIdsInBackground(Set<Long> userIds) {
+        Set<Long> claimed = new HashSet<>();
+        for (Long userId : userIds) {
+            if (refreshingIds.add(userId)) {
+                claimed.add(userId);
+            }
+        }
+        if (claimed.isEmpty()) {
+            return;
+        }
+        submitRefresh(() -> {
+            try {
+                loadByIds(claimed);
+            } finally {
+                refreshingIds.removeAll(claimed);
+            }
+        }, () -> refreshingIds.removeAll(claimed));
+    }
+
+    private void refreshUsernameInBackground(String username) {
+        if (!refreshingUsernames.add(username)) {
+            return;
+        }
+        submitRefresh(() -> {
+            try {
+                loadByUsername(username);
+            } finally {
+                refreshingUsernames.remove(username);
+            }
+        }, () -> refreshingUsernames.remove(username));
+    }
+
+    private void refreshUsernamesInBackground(Set<String> usernames) {
+        Set<String> claimed = new HashSet<>();
+        for (String username : usernames) {
+            if (refreshingUsernames.add(username)) {
+                claimed.add(username);
+            }
+        }
+        if (claimed.isEmpty()) {
+            return;
+        }
+        submitRefresh(() -> {
+            try {
+                loadByUsernames(claimed);
+            } finally {
+                refreshingUsernames.removeAll(claimed);
+            }
+        }, () -> refreshingUsernames.removeAll(claimed));
+    }
+
+    private void submitRefresh(Runnable refresh, Runnable onRejected) {
+        try {
+            refreshExecutor.execute(() -> {
+                backgroundRefreshes.increment();
+                try {
+                    refresh.run();
+                } catch (Exception e) {
+                    log.warn("Background refresh of cached users failed: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            onRejected.run();
+        }
+    }
+
+    private void store(List<CachedUser> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+        for (CachedUser user : users) {
+            putLocal(user);
+        }
+        writeToRedis(users);
+    }
+
+    private void putLocal(CachedUser user) {
+        byId.put(user.id(), user);
+        if (user.username() != null) {
+            byUsername.put(usernameKey(user.username()), user);
+        }
+    }
+
+    private List<CachedUser> readFromRedis(List<String> keys) {
+        List<CachedUser> users = new ArrayList<>();
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            if (values == null) {
+                return users;
+            }
+            for (String value : values) {
+                if (value != null) {
+                    users.add(objectMapper.readValue(value, CachedUser.class));
+                }
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Could not read cached users from Redis: {}", e.getMessage());
+        }
+        return users;
+    }
+
+    private void writeToRedis(List<CachedUser> users) {
+        try {
+            Map<String, String> values = new HashMap<>();
+            for (CachedUser user : users) {
+                String json = objectMapper.writeValueAsString(user);
+                values.put(ID_KEY_PREFIX + user.id(), json);
+                if (user.username() != null) {
+                    values.put(USERNAME_KEY_PREFIX + usernameKey(user.username()), json);
+                }
+            }
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    values.forEach((key, json) -> ops.opsForValue().set(key, json, maxStale));
+                    return null;
+                }
+            });
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Could not write cached users to Redis: {}", e.getMessage());
+        }
+    }
+
+    private void recordHit(CachedUser cached, long now, LongAdder freshCounter) {
+        if (isStale(cached, now)) {
+            staleHits.increment();
+        } else {
+            freshCounter.increment();
+        }
+    }
+
+    private void recordLoad(long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        loads.increment();
+        totalLoadNanos.add(elapsed);
+        maxLoadNanos.accumulateAndGet(elapsed, Math::max);
+    }
+
+    private static String usernameKey(String username) {
+        return username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private boolean isStale(CachedUser cached, long now) {
+        return now - cached.loadedAt() > freshMillis;
+    }
+
+    private boolean isExpired(CachedUser cached, long now) {
+        return now - cached.loadedAt() > maxStale.toMillis();
+    }
+
+    record CachedUser(Long id, String username, String email, long loadedAt) {
+        static CachedUser of(UserDto user, long loadedAt) {
+            return new CachedUser(user.getId(), user.getUsername(), user.getEmail(), loadedAt);
+        }
+
+        UserDto toDto() {
+            return UserDto.builder()
+                    .id(id)
+                    .username(username)
+                    .email(email)
+                    .build();
+        }
+    }
+}
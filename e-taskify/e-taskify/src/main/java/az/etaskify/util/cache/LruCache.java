@@ -0,0 +1,61 @@
+package az.etaskify.util.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Size-bounded, access-ordered map. Least recently used entries are dropped once the
+ * total weight of the cached values exceeds {@code maxWeight}; by default every value
+ * weighs one, which bounds the number of entries.
+ */
+public class LruCache<K, V> {
+    private final Map<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private long totalWeight;
+
+    public LruCache(int maxSize) {
+        this(maxSize, value -> 1);
+    }
+
+    public LruCache(long maxWeight, ToLongFunction<V> weigher) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        V previous = entries.put(key, value);
+        if (previous != null) {
+            totalWeight -= weigher.applyAsLong(previous);
+        }
+        totalWeight += weigher.applyAsLong(value);
+
+        Iterator<V> eldest = entries.values().iterator();
+        while (totalWeight > maxWeight && entries.size() > 1 && eldest.hasNext()) {
+            totalWeight -= weigher.applyAsLong(eldest.next());
+            eldest.remove();
+        }
+    }
+
+    public synchronized void remove(K key) {
+        V previous = entries.remove(key);
+        if (previous != null) {
+            totalWeight -= weigher.applyAsLong(previous);
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        totalWeight = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,5 @@
+package az.etaskify.util.enums;
+
+public enum BulkInviteStatus {
+    INVITED, USER_NOT_FOUND, ALREADY_MEMBER, ALREADY_INVITED, CANNOT_INVITE_SELF, DUPLICATE
+}
@@ -1,5 +1,5 @@
 package az.etaskify.util.enums;
 
 public enum InviteStatus {
-    PENDING,ACCEPTED,REJECTED
+    PENDING,ACCEPTED,REJECTED,EXPIRED
 }
@@ -0,0 +1,5 @@
+package az.etaskify.util.enums;
+
+public enum OutboxStatus {
+    PENDING, PARKED
+}
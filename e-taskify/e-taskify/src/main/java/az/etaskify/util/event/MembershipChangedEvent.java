@@ -0,0 +1,8 @@
+package az.etaskify.util.event;
+
+/**
+ * Published whenever the member list of an organization changes, so cached views of it
+ * can be dropped once the change is committed.
+ */
+public record MembershipChangedEvent(Long organizationId) {
+}
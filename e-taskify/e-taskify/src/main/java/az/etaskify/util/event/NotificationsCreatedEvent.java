@@ -0,0 +1,12 @@
+package az.etaskify.util.event;
+
+import az.etaskify.dao.entity.NotificationEntity;
+
+import java.util.List;
+
+/**
+ * Published by {@link az.etaskify.service.NotificationWriter} after it saved a batch of
+ * notifications; listeners see it once that batch is committed.
+ */
+public record NotificationsCreatedEvent(List<NotificationEntity> notifications) {
+}
@@ -0,0 +1,97 @@
+package az.etaskify.util.jwt;
+
+import az.etaskify.client.JwksClient;
+import az.etaskify.dto.JwkDto;
+import az.etaskify.dto.JwkSetDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Public keys of the auth service, fetched from its JWKS endpoint and looked up by {@code kid}.
+ * <p>
+ * The set is refreshed every {@code jwt.jwks.refresh-interval-ms}. A token signed with a kid we
+ * have not seen yet (a freshly rotated key) triggers an early refresh, at most once per
+ * {@code jwt.jwks.min-refresh-interval}, so forged kids cannot hammer the auth service.
+ */
+@Slf4j
+@Component
+public class JwksKeyStore {
+    private final JwksClient jwksClient;
+    private final long minRefreshIntervalMillis;
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long lastRefreshMillis;
+
+    public JwksKeyStore(JwksClient jwksClient,
+                        @Value("${jwt.jwks.min-refresh-interval:30s}") Duration minRefreshInterval) {
+        this.jwksClient = jwksClient;
+        this.minRefreshIntervalMillis = minRefreshInterval.toMillis();
+    }
+
+    public PublicKey find(String kid) {
+        if (kid == null) {
+            return null;
+        }
+        PublicKey key = keys.get(kid);
+        if (key != null) {
+            return key;
+        }
+        synchronized (this) {
+            key = keys.get(kid);
+            if (key == null && System.currentTimeMillis() - lastRefreshMillis >= minRefreshIntervalMillis) {
+                refresh();
+                key = keys.get(kid);
+            }
+        }
+        return key;
+    }
+
+    @Scheduled(initialDelayString = "${jwt.jwks.refresh-interval-ms:300000}",
+            fixedDelayString = "${jwt.jwks.refresh-interval-ms:300000}")
+    public synchronized void refresh() {
+        lastRefreshMillis = System.currentTimeMillis();
+        JwkSetDto jwks;
+        try {
+            jwks = jwksClient.getJwks();
+        } catch (Exception e) {
+            log.warn("Could not fetch JWKS from auth service, keeping {} known keys: {}", keys.size(), e.getMessage());
+            return;
+        }
+        if (jwks == null || jwks.keys() == null) {
+            return;
+        }
+
+        Map<String, PublicKey> fetched = new HashMap<>();
+        for (JwkDto jwk : jwks.keys()) {
+            if (!"RSA".equals(jwk.kty()) || jwk.kid() == null) {
+                continue;
+            }
+            try {
+                fetched.put(jwk.kid(), toPublicKey(jwk));
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                log.warn("Skipping malformed JWK {}: {}", jwk.kid(), e.getMessage());
+            }
+        }
+        keys = Map.copyOf(fetched);
+        log.debug("Loaded {} token verification keys", fetched.size());
+    }
+
+    private static PublicKey toPublicKey(JwkDto jwk) throws GeneralSecurityException {
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        RSAPublicKeySpec spec = new RSAPublicKeySpec(new BigInteger(1, decoder.decode(jwk.n())),
+                new BigInteger(1, decoder.decode(jwk.e())));
+        return KeyFactory.getInstance("RSA").generatePublic(spec);
+    }
+}
@@ -0,0 +1,125 @@
+package az.etaskify.util.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.ProtectedHeader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Verifies access tokens issued by the auth service in-process against the public keys
+ * it publishes as JWKS, picked by the token's {@code kid}. Verified tokens are remembered
+ * until they expire so repeat requests skip the signature check and JSON parsing. The cache is
+ * keyed by the SHA-256 digest of the token, so raw bearer tokens are never kept in memory.
+ */
+@Slf4j
+@Component
+public class JwtHelper {
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtParser parser;
+    private final int maxCacheSize;
+    private final Map<ByteBuffer, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+    public JwtHelper(JwksKeyStore jwksKeyStore,
+                     @Value("${jwt.cache.max-size:10000}") int maxCacheSize) {
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(ProtectedHeader header) {
+                        return jwksKeyStore.find(header.getKeyId());
+                    }
+                })
+                .build();
+        this.maxCacheSize = maxCacheSize;
+    }
+
+    public Optional<VerifiedToken> verifyAuthHeader(String authHeader) {
+        if (authHeader == null || authHeader.isBlank()) {
+            return Optional.empty();
+        }
+        return verify(authHeader.replace(BEARER_PREFIX, "").trim());
+    }
+
+    public Optional<VerifiedToken> verify(String token) {
+        Instant now = Instant.now();
+        ByteBuffer digest = digest(token);
+        VerifiedToken cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.remove(digest, cached);
+        }
+
+        VerifiedToken verified;
+        try {
+            verified = toVerifiedToken(parser.parseSignedClaims(token).getPayload());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Rejected access token: {}", e.getMessage());
+            return Optional.empty();
+        }
+
+        if (verified.isExpired(now)) {
+            return Optional.empty();
+        }
+        cache(digest, verified, now);
+        return Optional.of(verified);
+    }
+
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        String subject = claims.getSubject();
+        if (subject == null) {
+            throw new JwtException("Subject (User ID) claim is missing or null in the token");
+        }
+        try {
+            Instant expiresAt = claims.getExpiration() != null ? claims.getExpiration().toInstant() : null;
+            return new VerifiedToken(Long.parseLong(subject), expiresAt);
+        } catch (NumberFormatException e) {
+            throw new JwtException("Subject (User ID) claim is not a valid number: " + subject, e);
+        }
+    }
+
+    private void cache(ByteBuffer digest, VerifiedToken verified, Instant now) {
+        if (verifiedTokens.size() >= maxCacheSize) {
+            evictExpired(now);
+            if (verifiedTokens.size() >= maxCacheSize) {
+                return;
+            }
+        }
+        verifiedTokens.put(digest, verified);
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private void evictExpired(Instant now) {
+        Iterator<VerifiedToken> iterator = verifiedTokens.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isExpired(now)) {
+                iterator.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package az.etaskify.util.jwt;
+
+import java.time.Instant;
+
+public record VerifiedToken(Long userId, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt == null || !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,27 @@
+package az.etaskify.util.pagination;
+
+public final class PageSize {
+    public static final int DEFAULT = 20;
+    public static final int MAX = 100;
+    /**
+     * Offset-paginated queries stop here; deeper pages cost a scan of every skipped row.
+     */
+    public static final int MAX_OFFSET = 10_000;
+
+    private PageSize() {
+    }
+
+    public static int resolve(Integer requested) {
+        if (requested == null || requested < 1) {
+            return DEFAULT;
+        }
+        return Math.min(requested, MAX);
+    }
+
+    public static int resolvePage(Integer requested, int pageSize) {
+        if (requested == null || requested < 0) {
+            return 0;
+        }
+        return Math.min(requested, MAX_OFFSET / pageSize);
+    }
+}
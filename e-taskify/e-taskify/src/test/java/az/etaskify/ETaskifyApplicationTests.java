@@ -3,7 +3,7 @@ package az.etaskify;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "notification.broker=in-memory")
 class ETaskifyApplicationTests {
 
 	@Test
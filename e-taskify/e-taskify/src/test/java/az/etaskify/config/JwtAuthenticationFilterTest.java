@@ -0,0 +1,136 @@
+package az.etaskify.config;
+
+import az.etaskify.util.jwt.JwtHelper;
+import az.etaskify.util.jwt.VerifiedToken;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Optional;
+
+import static az.etaskify.config.JwtAuthenticationFilter.GATEWAY_SECRET_HEADER;
+import static az.etaskify.config.JwtAuthenticationFilter.GATEWAY_USER_ID_HEADER;
+import static az.etaskify.config.JwtAuthenticationFilter.USER_ID_ATTRIBUTE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class JwtAuthenticationFilterTest {
+    private static final String SECRET = "test-shared-secret-0123456789abcdef";
+    private static final String BEARER = "Bearer valid-token";
+    private static final Long TOKEN_USER_ID = 7L;
+    private static final String SPOOFED_USER_ID = "1";
+
+    private JwtHelper jwtHelper;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtHelper = mock(JwtHelper.class);
+        when(jwtHelper.verifyAuthHeader(any())).thenReturn(Optional.empty());
+        when(jwtHelper.verifyAuthHeader(BEARER))
+                .thenReturn(Optional.of(new VerifiedToken(TOKEN_USER_ID, Instant.now().plusSeconds(300))));
+        filter = new JwtAuthenticationFilter(jwtHelper, SECRET);
+    }
+
+    @Test
+    void trustsGatewayUserIdWithTheSharedSecret() throws ServletException, IOException {
+        MockHttpServletRequest request = request();
+        request.addHeader(GATEWAY_USER_ID_HEADER, "42");
+        request.addHeader(GATEWAY_SECRET_HEADER, SECRET);
+
+        MockFilterChain chain = doFilter(request, new MockHttpServletResponse());
+
+        assertThat(request.getAttribute(USER_ID_ATTRIBUTE)).isEqualTo(42L);
+        assertThat(chain.getRequest()).isNotNull();
+        verifyNoInteractions(jwtHelper);
+    }
+
+    @Test
+    void spoofedUserIdWithoutSecretIsIgnored() throws ServletException, IOException {
+        MockHttpServletRequest request = request();
+        request.addHeader(GATEWAY_USER_ID_HEADER, SPOOFED_USER_ID);
+
+        MockFilterChain chain = doFilter(request, new MockHttpServletResponse());
+
+        assertThat(request.getAttribute(USER_ID_ATTRIBUTE)).isNull();
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void spoofedUserIdWithWrongSecretFallsBackToTheBearerToken() throws ServletException, IOException {
+        MockHttpServletRequest request = request();
+        request.addHeader(GATEWAY_USER_ID_HEADER, SPOOFED_USER_ID);
+        request.addHeader(GATEWAY_SECRET_HEADER, SECRET.substring(1) + "x");
+        request.addHeader(HttpHeaders.AUTHORIZATION, BEARER);
+
+        doFilter(request, new MockHttpServletResponse());
+
+        assertThat(request.getAttribute(USER_ID_ATTRIBUTE)).isEqualTo(TOKEN_USER_ID);
+    }
+
+    @Test
+    void spoofedUserIdWithInvalidTokenIsRejected() throws ServletException, IOException {
+        MockHttpServletRequest request = request();
+        request.addHeader(GATEWAY_USER_ID_HEADER, SPOOFED_USER_ID);
+        request.addHeader(GATEWAY_SECRET_HEADER, "guessed");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer forged-token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        MockFilterChain chain = doFilter(request, response);
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
+        assertThat(request.getAttribute(USER_ID_ATTRIBUTE)).isNull();
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void emptySecretDisablesTheGatewayPath() throws ServletException, IOException {
+        filter = new JwtAuthenticationFilter(jwtHelper, "");
+        MockHttpServletRequest request = request();
+        request.addHeader(GATEWAY_USER_ID_HEADER, SPOOFED_USER_ID);
+        request.addHeader(GATEWAY_SECRET_HEADER, "");
+
+        doFilter(request, new MockHttpServletResponse());
+
+        assertThat(request.getAttribute(USER_ID_ATTRIBUTE)).isNull();
+    }
+
+    @Test
+    void malformedGatewayUserIdIsIgnored() throws ServletException, IOException {
+        MockHttpServletRequest request = request();
+        request.addHeader(GATEWAY_USER_ID_HEADER, "not-a-number");
+        request.addHeader(GATEWAY_SECRET_HEADER, SECRET);
+
+        doFilter(request, new MockHttpServletResponse());
+
+        assertThat(request.getAttribute(USER_ID_ATTRIBUTE)).isNull();
+    }
+
+    @Test
+    void shortOrPlaceholderSecretFailsStartup() {
+        assertThatThrownBy(() -> new JwtAuthenticationFilter(jwtHelper, "too-short"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new JwtAuthenticationFilter(jwtHelper, "change-me-gateway-shared-secret"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private MockFilterChain doFilter(MockHttpServletRequest request, MockHttpServletResponse response)
+            throws ServletException, IOException {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        return chain;
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/v1/organizations");
+    }
+}
@@ -0,0 +1,164 @@
+package az.etaskify.dao.repository;
+
+import az.etaskify.dao.entity.InviteEntity;
+import az.etaskify.dao.entity.OrganizationEntity;
+import az.etaskify.util.enums.InviteStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InviteRepositoryTest extends PostgresRepositoryTest {
+    private static final Long OWNER_ID = 1L;
+    private static final Long USER_ID = 2L;
+    private static final Long OTHER_USER_ID = 3L;
+    private static final Long THIRD_USER_ID = 4L;
+
+    @Autowired
+    private InviteRepository inviteRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    private OrganizationEntity organization;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        givenUsers(OWNER_ID, USER_ID, OTHER_USER_ID, THIRD_USER_ID);
+        organization = organizationRepository.save(OrganizationEntity.builder()
+                .name("Invites")
+                .ownerId(OWNER_ID)
+                .isPrivate(true)
+                .build());
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void insertPendingIfAbsentReturnsTheInsertedRow() {
+        Optional<InviteEntity> inserted = insert(USER_ID, now.plusDays(1));
+
+        assertThat(inserted).hasValueSatisfying(invite -> {
+            assertThat(invite.getId()).isNotNull();
+            assertThat(invite.getInvitedUserId()).isEqualTo(USER_ID);
+            assertThat(invite.getInviterUserId()).isEqualTo(OWNER_ID);
+            assertThat(invite.getStatus()).isEqualTo(InviteStatus.PENDING);
+        });
+    }
+
+    @Test
+    void insertPendingIfAbsentReturnsEmptyForDuplicatePendingInvite() {
+        Long firstId = insert(USER_ID, now.plusDays(1)).orElseThrow().getId();
+
+        assertThat(insert(USER_ID, now.plusDays(1))).isEmpty();
+        assertThat(pendingInvitedUserIds()).containsExactly(USER_ID);
+        assertThat(inviteRepository.findById(firstId)).isPresent();
+    }
+
+    @Test
+    void sequenceIdsDoNotCollideWithEntityInserts() {
+        InviteEntity saved = inviteRepository.saveAndFlush(InviteEntity.builder()
+                .organization(organization)
+                .inviterUserId(OWNER_ID)
+                .invitedUserId(OTHER_USER_ID)
+                .status(InviteStatus.ACCEPTED)
+                .build());
+
+        Long insertedId = insert(USER_ID, now.plusDays(1)).orElseThrow().getId();
+
+        assertThat(insertedId).isNotEqualTo(saved.getId());
+    }
+
+    @Test
+    void insertAllPendingIfAbsentReturnsOnlyInsertedRowsInInputOrder() {
+        insert(OTHER_USER_ID, now.plusDays(1)).orElseThrow();
+
+        List<InviteEntity> inserted = inviteRepository.insertAllPendingIfAbsent(organization.getId(),
+                new Long[]{THIRD_USER_ID, OTHER_USER_ID, USER_ID}, OWNER_ID, now, now.plusDays(1));
+
+        assertThat(inserted).extracting(InviteEntity::getInvitedUserId).containsExactly(THIRD_USER_ID, USER_ID);
+        assertThat(pendingInvitedUserIds()).containsExactlyInAnyOrder(USER_ID, OTHER_USER_ID, THIRD_USER_ID);
+    }
+
+    @Test
+    void overduePendingInvitesCanBeReplacedAfterExpiringThem() {
+        insert(USER_ID, now.minusMinutes(1)).orElseThrow();
+        insert(OTHER_USER_ID, now.plusDays(1)).orElseThrow();
+        List<Long> userIds = List.of(USER_ID, OTHER_USER_ID);
+
+        assertThat(inviteRepository.insertAllPendingIfAbsent(organization.getId(), userIds.toArray(Long[]::new),
+                OWNER_ID, now, now.plusDays(1))).isEmpty();
+        assertThat(inviteRepository.expireOverduePending(organization.getId(), userIds, now)).isEqualTo(1);
+
+        assertThat(inviteRepository.insertAllPendingIfAbsent(organization.getId(), userIds.toArray(Long[]::new),
+                OWNER_ID, now, now.plusDays(1)))
+                .extracting(InviteEntity::getInvitedUserId)
+                .containsExactly(USER_ID);
+    }
+
+    @Test
+    void unexpiredListingSkipsOverduePendingInvites() {
+        OrganizationEntity other = organizationRepository.save(OrganizationEntity.builder()
+                .name("Other")
+                .ownerId(OWNER_ID)
+                .isPrivate(true)
+                .build());
+        Long current = insert(USER_ID, now.plusDays(1)).orElseThrow().getId();
+        inviteRepository.insertPendingIfAbsent(other.getId(), USER_ID, OWNER_ID, now, now.minusSeconds(1));
+
+        assertThat(inviteRepository.findUnexpiredByInvitedUserIdAndStatus(USER_ID, InviteStatus.PENDING, now))
+                .extracting(InviteEntity::getId)
+                .containsExactly(current);
+    }
+
+    @Test
+    void expirePendingExpiresOnlyOverduePendingRowsUpToTheLimit() {
+        Long due = insert(USER_ID, now.minusMinutes(2)).orElseThrow().getId();
+        Long alsoDue = insert(OTHER_USER_ID, now.minusMinutes(1)).orElseThrow().getId();
+        Long current = insert(THIRD_USER_ID, now.plusDays(1)).orElseThrow().getId();
+
+        assertThat(inviteRepository.expirePending(now, 1)).isEqualTo(1);
+        assertThat(statusOf(due)).isEqualTo("EXPIRED");
+        assertThat(statusOf(alsoDue)).isEqualTo("PENDING");
+
+        assertThat(inviteRepository.expirePending(now, 10)).isEqualTo(1);
+        assertThat(inviteRepository.expirePending(now, 10)).isZero();
+        assertThat(statusOf(alsoDue)).isEqualTo("EXPIRED");
+        assertThat(statusOf(current)).isEqualTo("PENDING");
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void insertsRunInTheirOwnReadWriteTransaction() {
+        try {
+            assertThat(insert(USER_ID, now.plusDays(1))).isPresent();
+            assertThat(inviteRepository.insertAllPendingIfAbsent(organization.getId(),
+                    new Long[]{USER_ID, OTHER_USER_ID}, OWNER_ID, now, now.plusDays(1)))
+                    .extracting(InviteEntity::getInvitedUserId)
+                    .containsExactly(OTHER_USER_ID);
+        } finally {
+            jdbcTemplate.update("DELETE FROM invite WHERE organization_id = ?", organization.getId());
+            jdbcTemplate.update("DELETE FROM organization WHERE id = ?", organization.getId());
+        }
+    }
+
+    private Optional<InviteEntity> insert(Long invitedUserId, LocalDateTime expiresAt) {
+        return inviteRepository.insertPendingIfAbsent(organization.getId(), invitedUserId, OWNER_ID, now, expiresAt);
+    }
+
+    private String statusOf(Long id) {
+        return jdbcTemplate.queryForObject("SELECT status FROM invite WHERE id = ?", String.class, id);
+    }
+
+    private List<Long> pendingInvitedUserIds() {
+        return jdbcTemplate.queryForList("SELECT invited_user_id FROM invite WHERE organization_id = ? " +
+                "AND status = 'PENDING'", Long.class, organization.getId());
+    }
+}
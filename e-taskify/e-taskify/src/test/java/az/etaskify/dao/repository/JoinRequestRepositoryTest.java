@@ -0,0 +1,142 @@
+package az.etaskify.dao.repository;
+
+import az.etaskify.dao.entity.JoinRequestEntity;
+import az.etaskify.dao.entity.OrganizationEntity;
+import az.etaskify.util.enums.InviteStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JoinRequestRepositoryTest extends PostgresRepositoryTest {
+    private static final Long OWNER_ID = 1L;
+    private static final Long USER_ID = 2L;
+    private static final Long OTHER_USER_ID = 3L;
+    private static final Long THIRD_USER_ID = 4L;
+
+    @Autowired
+    private JoinRequestRepository joinRequestRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    private OrganizationEntity organization;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        givenUsers(OWNER_ID, USER_ID);
+        organization = organizationRepository.save(OrganizationEntity.builder()
+                .name("Join Requests")
+                .ownerId(OWNER_ID)
+                .isPrivate(false)
+                .build());
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void insertPendingIfAbsentReturnsTheInsertedRow() {
+        Optional<JoinRequestEntity> inserted = insert(now.plusDays(1));
+
+        assertThat(inserted).hasValueSatisfying(request -> {
+            assertThat(request.getId()).isNotNull();
+            assertThat(request.getUserId()).isEqualTo(USER_ID);
+            assertThat(request.getStatus()).isEqualTo(InviteStatus.PENDING);
+            assertThat(request.getOrganization().getId()).isEqualTo(organization.getId());
+        });
+        assertThat(joinRequestRepository.findById(inserted.get().getId())).isPresent();
+    }
+
+    @Test
+    void insertPendingIfAbsentReturnsEmptyForDuplicatePendingRequest() {
+        Long firstId = insert(now.plusDays(1)).orElseThrow().getId();
+
+        assertThat(insert(now.plusDays(1))).isEmpty();
+        assertThat(pendingIds()).containsExactly(firstId);
+    }
+
+    @Test
+    void decidedRequestDoesNotBlockNewRequest() {
+        Long firstId = insert(now.plusDays(1)).orElseThrow().getId();
+        joinRequestRepository.updateStatusByIds(List.of(firstId), InviteStatus.REJECTED);
+
+        assertThat(insert(now.plusDays(1))).isPresent();
+    }
+
+    @Test
+    void overduePendingRequestCanBeReplacedAfterExpiringIt() {
+        Long overdueId = insert(now.minusMinutes(1)).orElseThrow().getId();
+        assertThat(insert(now.plusDays(1))).isEmpty();
+
+        assertThat(joinRequestRepository.expireOverduePending(organization.getId(), USER_ID, now)).isEqualTo(1);
+        Long replacementId = insert(now.plusDays(1)).orElseThrow().getId();
+
+        assertThat(replacementId).isNotEqualTo(overdueId);
+        assertThat(pendingIds()).containsExactly(replacementId);
+    }
+
+    @Test
+    void unexpiredListingSkipsOverduePendingRequests() {
+        givenUsers(OTHER_USER_ID);
+        Long current = insert(now.plusDays(1)).orElseThrow().getId();
+        joinRequestRepository.insertPendingIfAbsent(organization.getId(), OTHER_USER_ID, now, now.minusSeconds(1));
+
+        assertThat(joinRequestRepository.findUnexpiredByOrganizationIdAndStatus(organization.getId(),
+                InviteStatus.PENDING, now, PageRequest.of(0, 10)))
+                .extracting(JoinRequestEntity::getId)
+                .containsExactly(current);
+    }
+
+    @Test
+    void expirePendingExpiresOnlyOverduePendingRowsUpToTheLimit() {
+        givenUsers(OTHER_USER_ID, THIRD_USER_ID);
+        Long due = insert(now.minusMinutes(2)).orElseThrow().getId();
+        Long alsoDue = joinRequestRepository.insertPendingIfAbsent(organization.getId(), OTHER_USER_ID, now,
+                now.minusMinutes(1)).orElseThrow().getId();
+        Long current = joinRequestRepository.insertPendingIfAbsent(organization.getId(), THIRD_USER_ID, now,
+                now.plusDays(1)).orElseThrow().getId();
+
+        assertThat(joinRequestRepository.expirePending(now, 1)).isEqualTo(1);
+        assertThat(statusOf(due)).isEqualTo("EXPIRED");
+        assertThat(statusOf(alsoDue)).isEqualTo("PENDING");
+
+        assertThat(joinRequestRepository.expirePending(now, 10)).isEqualTo(1);
+        assertThat(joinRequestRepository.expirePending(now, 10)).isZero();
+        assertThat(statusOf(alsoDue)).isEqualTo("EXPIRED");
+        assertThat(statusOf(current)).isEqualTo("PENDING");
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void insertPendingIfAbsentRunsInItsOwnReadWriteTransaction() {
+        try {
+            assertThat(insert(now.plusDays(1))).isPresent();
+            assertThat(insert(now.plusDays(1))).isEmpty();
+            assertThat(pendingIds()).hasSize(1);
+        } finally {
+            jdbcTemplate.update("DELETE FROM join_request WHERE organization_id = ?", organization.getId());
+            jdbcTemplate.update("DELETE FROM organization WHERE id = ?", organization.getId());
+        }
+    }
+
+    private Optional<JoinRequestEntity> insert(LocalDateTime expiresAt) {
+        return joinRequestRepository.insertPendingIfAbsent(organization.getId(), USER_ID, now, expiresAt);
+    }
+
+    private String statusOf(Long id) {
+        return jdbcTemplate.queryForObject("SELECT status FROM join_request WHERE id = ?", String.class, id);
+    }
+
+    private List<Long> pendingIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM join_request WHERE organization_id = ? AND status = 'PENDING'",
+                Long.class, organization.getId());
+    }
+}
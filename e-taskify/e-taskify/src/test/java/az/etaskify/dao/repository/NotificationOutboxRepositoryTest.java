@@ -0,0 +1,122 @@
+package az.etaskify.dao.repository;
+
+import az.etaskify.dao.entity.NotificationOutboxEntity;
+import az.etaskify.util.enums.OutboxStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs without a test transaction: each claim happens in its own transaction, as it does for
+ * relays on separate instances.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NotificationOutboxRepositoryTest extends PostgresRepositoryTest {
+
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService otherRelay;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        otherRelay = Executors.newSingleThreadExecutor();
+        now = LocalDateTime.now();
+    }
+
+    @AfterEach
+    void tearDown() {
+        otherRelay.shutdownNow();
+        notificationOutboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void lockNextBatchSkipsEntriesClaimedByAnotherTransaction() {
+        List<Long> ids = givenEntries(null, null, null, null);
+
+        List<List<Long>> claims = transactionTemplate.execute(status -> {
+            List<Long> first = ids(notificationOutboxRepository.lockNextBatch(now, 2));
+            List<Long> second = inOtherTransaction(() -> ids(notificationOutboxRepository.lockNextBatch(now, 10)));
+            return List.of(first, second);
+        });
+
+        assertThat(claims.get(0)).containsExactly(ids.get(0), ids.get(1));
+        assertThat(claims.get(1)).containsExactly(ids.get(2), ids.get(3));
+    }
+
+    @Test
+    void lockByCoalesceKeysSkipsEntriesClaimedByAnotherTransaction() {
+        List<Long> ids = givenEntries("owner:1:org:10", "owner:1:org:10", "owner:1:org:11");
+
+        List<Long> merged = transactionTemplate.execute(status -> {
+            notificationOutboxRepository.lockNextBatch(now, 1);
+            return inOtherTransaction(() -> ids(notificationOutboxRepository.lockByCoalesceKeys(
+                    List.of("owner:1:org:10"))));
+        });
+
+        assertThat(merged).containsExactly(ids.get(1));
+    }
+
+    @Test
+    void lockNextBatchReturnsOnlyDuePendingEntries() {
+        List<Long> ids = givenEntries(null, null, null);
+        notificationOutboxRepository.saveAll(List.of(
+                entry(null, now.plusMinutes(5), OutboxStatus.PENDING),
+                entry(null, now.minusMinutes(5), OutboxStatus.PARKED)));
+
+        List<Long> claimed = transactionTemplate.execute(status ->
+                ids(notificationOutboxRepository.lockNextBatch(now, 10)));
+
+        assertThat(claimed).containsExactlyElementsOf(ids);
+    }
+
+    private List<Long> givenEntries(String... coalesceKeys) {
+        List<NotificationOutboxEntity> entries = new ArrayList<>();
+        for (String coalesceKey : coalesceKeys) {
+            entries.add(entry(coalesceKey, now.minusSeconds(1), OutboxStatus.PENDING));
+        }
+        return ids(notificationOutboxRepository.saveAll(entries));
+    }
+
+    private static NotificationOutboxEntity entry(String coalesceKey, LocalDateTime availableAt, OutboxStatus status) {
+        return NotificationOutboxEntity.builder()
+                .payload("{}")
+                .coalesceKey(coalesceKey)
+                .availableAt(availableAt)
+                .status(status)
+                .build();
+    }
+
+    private <T> T inOtherTransaction(Supplier<T> work) {
+        try {
+            return otherRelay.submit(() -> transactionTemplate.execute(status -> work.get())).get(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException("Second transaction did not complete", e);
+        }
+    }
+
+    private static List<Long> ids(List<NotificationOutboxEntity> entries) {
+        return entries.stream().map(NotificationOutboxEntity::getId).toList();
+    }
+}
@@ -0,0 +1,41 @@
+package az.etaskify.dao.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base for repository tests that need Postgres itself (native SQL, full-text search, trigram
+ * indexes, ON CONFLICT, SKIP LOCKED). The schema comes from the Liquibase changelog, after a
+ * stub of the auth-owned {@code users} table it references. One container is shared by every
+ * test class so the Spring context can be cached between them; the tests are skipped when
+ * Docker is not available.
+ */
+@DataJpaTest(properties = "spring.liquibase.change-log=classpath:/db/changelog/test-changelog-master.yml")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresRepositoryTest {
+
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static {
+        POSTGRES.start();
+    }
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts rows into the stub of auth's {@code users} table, which e-taskify tables reference.
+     */
+    protected void givenUsers(Long... userIds) {
+        for (Long userId : userIds) {
+            jdbcTemplate.update("INSERT INTO users (id) VALUES (?) ON CONFLICT DO NOTHING", userId);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package az.etaskify.dao.repository;
+
+import az.etaskify.dao.entity.OrganizationEntity;
+import az.etaskify.dao.entity.TaskAssigneeEntity;
+import az.etaskify.dao.entity.TaskEntity;
+import az.etaskify.util.enums.VisibilityStatus;
+import az.etaskify.util.pagination.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskRepositoryTest extends PostgresRepositoryTest {
+    private static final Long OWNER_ID = 1L;
+    private static final Long MEMBER_ID = 2L;
+    private static final LocalDateTime TIE = LocalDateTime.of(2025, 5, 1, 12, 0, 0, 123_456_000);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private TaskAssigneeRepository taskAssigneeRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private OrganizationEntity organization;
+
+    @BeforeEach
+    void setUp() {
+        givenUsers(OWNER_ID, MEMBER_ID);
+        organization = givenOrganization("Search");
+    }
+
+    @Test
+    void newestFirstBreaksCreatedAtTiesByDescendingId() {
+        List<TaskEntity> tasks = givenTasksWithTies();
+        entityManager.clear();
+
+        List<TaskEntity> page = taskRepository.findVisibleTasks(organization.getId(), MEMBER_ID, PageRequest.of(0, 10));
+
+        assertThat(page).extracting(TaskEntity::getId).containsExactlyElementsOf(newestFirst(tasks));
+    }
+
+    @Test
+    void visibleCursorPagesVisitEveryTaskOnceAcrossTies() {
+        List<TaskEntity> tasks = givenTasksWithTies();
+        entityManager.clear();
+
+        List<Long> seen = new ArrayList<>();
+        List<TaskEntity> page = taskRepository.findVisibleTasks(organization.getId(), MEMBER_ID, PageRequest.of(0, 2));
+        while (!page.isEmpty()) {
+            page.forEach(task -> seen.add(task.getId()));
+            Cursor cursor = Cursor.decode(cursorAfter(page).encode());
+            page = taskRepository.findVisibleTasksAfter(organization.getId(), MEMBER_ID, cursor.createdAt(), cursor.id(),
+                    PageRequest.of(0, 2));
+        }
+
+        assertThat(seen).containsExactlyElementsOf(newestFirst(tasks));
+    }
+
+    @Test
+    void assignedCursorPagesVisitEveryAssignedTaskOnceAcrossTies() {
+        List<TaskEntity> tasks = givenTasksWithTies();
+        List<TaskEntity> assigned = List.of(tasks.get(0), tasks.get(1), tasks.get(2), tasks.get(4));
+        for (TaskEntity task : assigned) {
+            taskAssigneeRepository.save(TaskAssigneeEntity.builder().taskEntity(task).userId(MEMBER_ID).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> seen = new ArrayList<>();
+        List<TaskEntity> page = taskRepository.findAssignedTasks(organization.getId(), MEMBER_ID, PageRequest.of(0, 1));
+        while (!page.isEmpty()) {
+            page.forEach(task -> seen.add(task.getId()));
+            Cursor cursor = cursorAfter(page);
+            page = taskRepository.findAssignedTasksAfter(organization.getId(), MEMBER_ID, cursor.createdAt(), cursor.id(),
+                    PageRequest.of(0, 1));
+        }
+
+        assertThat(seen).containsExactlyElementsOf(newestFirst(assigned));
+    }
+
+    @Test
+    void searchRanksTitleMatchesAboveDescriptionMatches() {
+        TaskEntity inDescription = givenTask(organization, "Weekly sync", "prepare the release notes",
+                VisibilityStatus.PUBLIC);
+        TaskEntity inTitle = givenTask(organization, "Release checklist", null, VisibilityStatus.PUBLIC);
+        givenTask(organization, "Unrelated", "nothing to see", VisibilityStatus.PUBLIC);
+
+        assertThat(search(MEMBER_ID, "release")).containsExactly(inTitle.getId(), inDescription.getId());
+    }
+
+    @Test
+    void searchSupportsWebSearchSyntax() {
+        TaskEntity both = givenTask(organization, "Release backend", null, VisibilityStatus.PUBLIC);
+        TaskEntity releaseOnly = givenTask(organization, "Release frontend", null, VisibilityStatus.PUBLIC);
+
+        assertThat(search(MEMBER_ID, "release -frontend")).containsExactly(both.getId());
+        assertThat(search(MEMBER_ID, "\"release frontend\"")).containsExactly(releaseOnly.getId());
+    }
+
+    @Test
+    void searchReturnsOnlyTasksVisibleToTheUser() {
+        TaskEntity publicTask = givenTask(organization, "Budget public", null, VisibilityStatus.PUBLIC);
+        TaskEntity assignedTask = givenTask(organization, "Budget assigned", null, VisibilityStatus.CUSTOM);
+        TaskEntity hiddenTask = givenTask(organization, "Budget hidden", null, VisibilityStatus.CUSTOM);
+        givenTask(givenOrganization("Other"), "Budget elsewhere", null, VisibilityStatus.PUBLIC);
+        taskAssigneeRepository.save(TaskAssigneeEntity.builder().taskEntity(assignedTask).userId(MEMBER_ID).build());
+        entityManager.flush();
+
+        assertThat(search(MEMBER_ID, "budget")).containsExactlyInAnyOrder(publicTask.getId(), assignedTask.getId());
+        assertThat(search(OWNER_ID, "budget"))
+                .containsExactlyInAnyOrder(publicTask.getId(), assignedTask.getId(), hiddenTask.getId());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "   ", "!!!", "&|:*", "\"unbalanced", "-", "or", "()"})
+    void searchTreatsMalformedOrEmptyQueriesAsNoMatch(String query) {
+        givenTask(organization, "Anything", "at all", VisibilityStatus.PUBLIC);
+
+        assertThat(search(MEMBER_ID, query)).isEmpty();
+    }
+
+    @Test
+    void searchPagesWithLimitAndOffset() {
+        for (int i = 0; i < 5; i++) {
+            givenTask(organization, "Report " + i, null, VisibilityStatus.PUBLIC);
+        }
+
+        List<TaskEntity> first = taskRepository.searchVisibleTasks(organization.getId(), MEMBER_ID, "report", 2, 0);
+        List<TaskEntity> rest = taskRepository.searchVisibleTasks(organization.getId(), MEMBER_ID, "report", 10, 2);
+
+        assertThat(first).hasSize(2);
+        assertThat(rest).hasSize(3).doesNotContainAnyElementsOf(first);
+    }
+
+    /**
+     * Five tasks: one older, three sharing {@link #TIE}, one newer.
+     */
+    private List<TaskEntity> givenTasksWithTies() {
+        List<LocalDateTime> createdAts = List.of(TIE.minusMinutes(1), TIE, TIE, TIE, TIE.plusMinutes(1));
+        List<TaskEntity> tasks = new ArrayList<>();
+        for (int i = 0; i < createdAts.size(); i++) {
+            TaskEntity task = givenTask(organization, "Task " + i, null, VisibilityStatus.PUBLIC);
+            jdbcTemplate.update("UPDATE task SET created_at = ? WHERE id = ?", Timestamp.valueOf(createdAts.get(i)),
+                    task.getId());
+            task.setCreatedAt(createdAts.get(i));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private static List<Long> newestFirst(List<TaskEntity> tasks) {
+        return tasks.stream()
+                .sorted(Comparator.comparing(TaskEntity::getCreatedAt).thenComparing(TaskEntity::getId).reversed())
+                .map(TaskEntity::getId)
+                .toList();
+    }
+
+    private static Cursor cursorAfter(List<TaskEntity> page) {
+        TaskEntity last = page.get(page.size() - 1);
+        return new Cursor(last.getCreatedAt(), last.getId());
+    }
+
+    private List<Long> search(Long userId, String query) {
+        return taskRepository.searchVisibleTasks(organization.getId(), userId, query, 10, 0).stream()
+                .map(TaskEntity::getId)
+                .toList();
+    }
+
+    private OrganizationEntity givenOrganization(String name) {
+        return organizationRepository.save(OrganizationEntity.builder()
+                .name(name)
+                .ownerId(OWNER_ID)
+                .isPrivate(false)
+                .build());
+    }
+
+    private TaskEntity givenTask(OrganizationEntity organization, String title, String description,
+                                 VisibilityStatus visibility) {
+        return taskRepository.saveAndFlush(TaskEntity.builder()
+                .organization(organization)
+                .title(title)
+                .description(description)
+                .createdBy(OWNER_ID)
+                .visibility(visibility)
+                .build());
+    }
+}
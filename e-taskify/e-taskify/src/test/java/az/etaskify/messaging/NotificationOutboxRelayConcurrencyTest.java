@@ -0,0 +1,101 @@
+package az.etaskify.messaging;
+
+import az.etaskify.dao.entity.NotificationOutboxEntity;
+import az.etaskify.dao.repository.NotificationOutboxRepository;
+import az.etaskify.dao.repository.PostgresRepositoryTest;
+import az.etaskify.dto.NotificationMessage;
+import az.etaskify.util.enums.NotificationType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two relays, as on two instances, draining the same outbox against Postgres.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NotificationOutboxRelayConcurrencyTest extends PostgresRepositoryTest {
+    private static final int BATCH_SIZE = 3;
+    private static final int ENTRIES = 6;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        notificationOutboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentRelaysPublishEveryEntryExactlyOnce() throws Exception {
+        List<NotificationOutboxEntity> entries = new ArrayList<>();
+        for (long actorUserId = 1; actorUserId <= ENTRIES; actorUserId++) {
+            entries.add(NotificationOutboxEntity.builder()
+                    .payload(objectMapper.writeValueAsString(
+                            new NotificationMessage(100L, NotificationType.TASK_ASSIGNED, actorUserId, 10L)))
+                    .availableAt(LocalDateTime.now().minusSeconds(1))
+                    .build());
+        }
+        notificationOutboxRepository.saveAll(entries);
+
+        List<Long> published = new CopyOnWriteArrayList<>();
+        CountDownLatch firstRelayPublishing = new CountDownLatch(1);
+        CountDownLatch secondRelayDone = new CountDownLatch(1);
+        NotificationOutboxRelay first = relay(messages -> {
+            messages.forEach(message -> published.add(message.actorUserId()));
+            firstRelayPublishing.countDown();
+            awaitQuietly(secondRelayDone);
+        });
+        NotificationOutboxRelay second = relay(messages -> messages.forEach(message -> published.add(message.actorUserId())));
+
+        Future<?> firstRun = executor.submit(() -> inTransaction(first));
+        assertThat(firstRelayPublishing.await(10, TimeUnit.SECONDS)).isTrue();
+        inTransaction(second);
+        inTransaction(second);
+        secondRelayDone.countDown();
+        firstRun.get(10, TimeUnit.SECONDS);
+
+        assertThat(published).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L, 6L);
+        assertThat(notificationOutboxRepository.count()).isZero();
+    }
+
+    private NotificationOutboxRelay relay(NotificationBroker broker) {
+        return new NotificationOutboxRelay(notificationOutboxRepository, broker, objectMapper, BATCH_SIZE);
+    }
+
+    private void inTransaction(NotificationOutboxRelay relay) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> relay.relay());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
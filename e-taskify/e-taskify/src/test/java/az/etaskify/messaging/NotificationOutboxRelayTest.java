@@ -0,0 +1,119 @@
+package az.etaskify.messaging;
+
+import az.etaskify.dao.entity.NotificationOutboxEntity;
+import az.etaskify.dao.repository.NotificationOutboxRepository;
+import az.etaskify.dto.NotificationMessage;
+import az.etaskify.util.enums.NotificationType;
+import az.etaskify.util.enums.OutboxStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class NotificationOutboxRelayTest {
+    private static final Long ORGANIZATION_ID = 10L;
+    private static final Long OWNER_ID = 1L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private NotificationOutboxRepository notificationOutboxRepository;
+    private NotificationBroker notificationBroker;
+    private NotificationOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        notificationOutboxRepository = mock(NotificationOutboxRepository.class);
+        notificationBroker = mock(NotificationBroker.class);
+        relay = new NotificationOutboxRelay(notificationOutboxRepository, notificationBroker, objectMapper, 200);
+    }
+
+    @Test
+    void mergesEveryWaitingEntryUnderTheDueCoalesceKey() throws Exception {
+        NotificationOutboxEntity due = entry(1L, joinRequest(101L, 1));
+        NotificationOutboxEntity uncoalesced = entry(2L,
+                new NotificationMessage(OWNER_ID, NotificationType.TASK_ASSIGNED, 200L, ORGANIZATION_ID));
+        NotificationOutboxEntity waiting = entry(3L, joinRequest(102L, 1));
+        NotificationOutboxEntity newest = entry(4L, joinRequest(103L, 2));
+        when(notificationOutboxRepository.lockNextBatch(any(), eq(200))).thenReturn(List.of(due, uncoalesced));
+        when(notificationOutboxRepository.lockByCoalesceKeys(anyCollection())).thenReturn(List.of(due, newest, waiting));
+
+        relay.relay();
+
+        assertThat(published()).containsExactly(
+                new NotificationMessage(OWNER_ID, NotificationType.JOIN_REQUEST_RECEIVED, 103L, ORGANIZATION_ID, 4),
+                new NotificationMessage(OWNER_ID, NotificationType.TASK_ASSIGNED, 200L, ORGANIZATION_ID, 1));
+        assertThat(deleted()).containsExactly(due, uncoalesced, waiting, newest);
+    }
+
+    @Test
+    void keepsDifferentCoalesceKeysApart() throws Exception {
+        NotificationOutboxEntity first = entry(1L, joinRequest(101L, 1));
+        NotificationOutboxEntity otherOrganization = entry(2L,
+                new NotificationMessage(OWNER_ID, NotificationType.JOIN_REQUEST_RECEIVED, 102L, 11L));
+        when(notificationOutboxRepository.lockNextBatch(any(), anyInt())).thenReturn(List.of(first, otherOrganization));
+        when(notificationOutboxRepository.lockByCoalesceKeys(anyCollection())).thenReturn(List.of(first, otherOrganization));
+
+        relay.relay();
+
+        assertThat(published()).extracting(NotificationMessage::organizationId, NotificationMessage::count)
+                .containsExactly(tuple(ORGANIZATION_ID, 1), tuple(11L, 1));
+    }
+
+    @Test
+    void parksUnreadableEntriesAndRelaysTheRest() throws Exception {
+        NotificationOutboxEntity unreadable = NotificationOutboxEntity.builder().id(1L).payload("{not json").build();
+        NotificationOutboxEntity readable = entry(2L,
+                new NotificationMessage(OWNER_ID, NotificationType.TASK_ASSIGNED, 200L, ORGANIZATION_ID));
+        when(notificationOutboxRepository.lockNextBatch(any(), anyInt())).thenReturn(List.of(unreadable, readable));
+
+        relay.relay();
+
+        assertThat(unreadable.getStatus()).isEqualTo(OutboxStatus.PARKED);
+        assertThat(unreadable.getLastError()).isNotBlank();
+        assertThat(published()).hasSize(1);
+        assertThat(deleted()).containsExactly(readable);
+    }
+
+    @Test
+    void doesNothingWhenNoEntryIsDue() {
+        when(notificationOutboxRepository.lockNextBatch(any(), anyInt())).thenReturn(List.of());
+
+        relay.relay();
+
+        verifyNoInteractions(notificationBroker);
+        verify(notificationOutboxRepository, never()).deleteAllInBatch(any());
+    }
+
+    private NotificationMessage joinRequest(Long requesterId, int count) {
+        return new NotificationMessage(OWNER_ID, NotificationType.JOIN_REQUEST_RECEIVED, requesterId, ORGANIZATION_ID, count);
+    }
+
+    private NotificationOutboxEntity entry(Long id, NotificationMessage message) throws JsonProcessingException {
+        return NotificationOutboxEntity.builder()
+                .id(id)
+                .payload(objectMapper.writeValueAsString(message))
+                .coalesceKey(message.type() == NotificationType.JOIN_REQUEST_RECEIVED ? message.coalesceKey() : null)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<NotificationMessage> published() {
+        ArgumentCaptor<List<NotificationMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationBroker).publish(captor.capture());
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<NotificationOutboxEntity> deleted() {
+        ArgumentCaptor<Iterable<NotificationOutboxEntity>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(notificationOutboxRepository).deleteAllInBatch(captor.capture());
+        return (List<NotificationOutboxEntity>) captor.getValue();
+    }
+}
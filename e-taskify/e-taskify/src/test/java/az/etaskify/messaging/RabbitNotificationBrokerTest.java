@@ -0,0 +1,75 @@
+package az.etaskify.messaging;
+
+import az.etaskify.config.NotificationAmqpConfig;
+import az.etaskify.dto.NotificationMessage;
+import az.etaskify.service.NotificationWriter;
+import az.etaskify.util.enums.NotificationType;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the notification queue topology and batch listener against a real broker, with the
+ * retry and requeue settings from application.properties.
+ */
+@SpringBootTest(classes = {NotificationAmqpConfig.class, RabbitNotificationBroker.class},
+        properties = "spring.rabbitmq.listener.simple.retry.initial-interval=100ms")
+@ImportAutoConfiguration({RabbitAutoConfiguration.class, JacksonAutoConfiguration.class})
+@Testcontainers(disabledWithoutDocker = true)
+class RabbitNotificationBrokerTest {
+    private static final long RECEIVE_TIMEOUT_MILLIS = 10_000;
+
+    @Container
+    @ServiceConnection
+    static final RabbitMQContainer RABBIT = new RabbitMQContainer("rabbitmq:3.13-alpine");
+
+    @Autowired
+    private RabbitNotificationBroker broker;
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    @MockitoBean
+    private NotificationWriter notificationWriter;
+
+    @Test
+    void publishedBatchReachesTheWriter() {
+        NotificationMessage message = new NotificationMessage(1L, NotificationType.TASK_ASSIGNED, 2L, 10L);
+
+        broker.publish(List.of(message));
+
+        verify(notificationWriter, timeout(RECEIVE_TIMEOUT_MILLIS)).write(List.of(message));
+    }
+
+    @Test
+    void batchThatKeepsFailingIsDeadLetteredAfterRetries() {
+        doThrow(new IllegalStateException("database unavailable")).when(notificationWriter).write(anyList());
+        NotificationMessage message = new NotificationMessage(1L, NotificationType.INVITE_RECEIVED, 2L, 10L);
+
+        broker.publish(List.of(message));
+
+        NotificationMessage deadLettered = rabbitTemplate.receiveAndConvert(
+                NotificationAmqpConfig.NOTIFICATION_DEAD_LETTER_QUEUE, RECEIVE_TIMEOUT_MILLIS,
+                new ParameterizedTypeReference<>() {
+                });
+        assertThat(deadLettered).isEqualTo(message);
+        verify(notificationWriter, times(3)).write(anyList());
+        assertThat(rabbitTemplate.receive(NotificationAmqpConfig.NOTIFICATION_QUEUE)).isNull();
+    }
+}
@@ -0,0 +1,213 @@
+package az.etaskify.service;
+
+import az.etaskify.dao.entity.InviteEntity;
+import az.etaskify.dao.entity.JoinRequestEntity;
+import az.etaskify.dao.entity.OrganizationEntity;
+import az.etaskify.dao.repository.InviteRepository;
+import az.etaskify.dao.repository.JoinRequestRepository;
+import az.etaskify.dao.repository.OrganizationRepository;
+import az.etaskify.dao.repository.UserOrganizationRepository;
+import az.etaskify.dto.OrganizationCreateRequest;
+import az.etaskify.mapper.JoinRequestMapper;
+import az.etaskify.mapper.OrganizationMapper;
+import az.etaskify.util.enums.InviteStatus;
+import az.etaskify.util.event.MembershipChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class MembershipIndexServiceTest {
+    private static final Long ORGANIZATION_ID = 10L;
+    private static final Long OWNER_ID = 1L;
+    private static final Long NEW_MEMBER_ID = 2L;
+    private static final Long OTHER_NEW_MEMBER_ID = 3L;
+
+    private OrganizationRepository organizationRepository;
+    private OrganizationMapper organizationMapper;
+    private UserOrganizationRepository userOrganizationRepository;
+    private InviteRepository inviteRepository;
+    private JoinRequestRepository joinRequestRepository;
+    private MembershipIndexService membershipIndexService;
+    private OrganizationService organizationService;
+    private OrganizationEntity organization;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        organizationRepository = mock(OrganizationRepository.class);
+        organizationMapper = mock(OrganizationMapper.class);
+        userOrganizationRepository = mock(UserOrganizationRepository.class);
+        inviteRepository = mock(InviteRepository.class);
+        joinRequestRepository = mock(JoinRequestRepository.class);
+        PendingRequestExpiryService pendingRequestExpiryService = mock(PendingRequestExpiryService.class);
+        when(pendingRequestExpiryService.effectiveStatus(any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        membershipIndexService = new MembershipIndexService(userOrganizationRepository, mock(StringRedisTemplate.class),
+                1000, Duration.ofMinutes(10));
+        organizationService = new OrganizationService(organizationRepository, organizationMapper,
+                userOrganizationRepository, inviteRepository, mock(UserLookupService.class),
+                mock(NotificationService.class), joinRequestRepository, mock(JoinRequestMapper.class),
+                membershipIndexService, event -> {
+                    if (event instanceof MembershipChangedEvent changed) {
+                        membershipIndexService.onMembershipChanged(changed);
+                    }
+                }, pendingRequestExpiryService);
+
+        organization = OrganizationEntity.builder().id(ORGANIZATION_ID).ownerId(OWNER_ID).name("Acme").build();
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void cachesLoadedMembers() {
+        givenMembers(OWNER_ID);
+
+        assertThat(membershipIndexService.isMember(OWNER_ID, ORGANIZATION_ID)).isTrue();
+        assertThat(membershipIndexService.isMember(NEW_MEMBER_ID, ORGANIZATION_ID)).isFalse();
+
+        verify(userOrganizationRepository, times(1)).findUserIdsByOrganizationId(ORGANIZATION_ID);
+    }
+
+    @Test
+    void createOrganizationInvalidatesIndex() {
+        givenMembers();
+        assertThat(membershipIndexService.isMember(OWNER_ID, ORGANIZATION_ID)).isFalse();
+        when(organizationMapper.orgDtoToEntity(any(), eq(OWNER_ID))).thenReturn(organization);
+
+        givenMembers(OWNER_ID);
+        organizationService.createOrganization(new OrganizationCreateRequest("Acme", false), OWNER_ID);
+
+        assertThat(membershipIndexService.isMember(OWNER_ID, ORGANIZATION_ID)).isTrue();
+    }
+
+    @Test
+    void acceptInviteInvalidatesIndex() throws Exception {
+        givenMembers(OWNER_ID);
+        assertThat(membershipIndexService.isMember(NEW_MEMBER_ID, ORGANIZATION_ID)).isFalse();
+        InviteEntity invite = InviteEntity.builder()
+                .id(5L)
+                .inviterUserId(OWNER_ID)
+                .invitedUserId(NEW_MEMBER_ID)
+                .status(InviteStatus.PENDING)
+                .organization(organization)
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build();
+        when(inviteRepository.findById(5L)).thenReturn(Optional.of(invite));
+        when(inviteRepository.save(invite)).thenReturn(invite);
+
+        givenMembers(OWNER_ID, NEW_MEMBER_ID);
+        organizationService.acceptInvite(5L, NEW_MEMBER_ID);
+
+        assertThat(membershipIndexService.isMember(NEW_MEMBER_ID, ORGANIZATION_ID)).isTrue();
+    }
+
+    @Test
+    void approveJoinRequestInvalidatesIndex() {
+        givenMembers(OWNER_ID);
+        assertThat(membershipIndexService.isMember(NEW_MEMBER_ID, ORGANIZATION_ID)).isFalse();
+        JoinRequestEntity request = joinRequest(6L, NEW_MEMBER_ID);
+        when(joinRequestRepository.findById(6L)).thenReturn(Optional.of(request));
+        when(joinRequestRepository.save(request)).thenReturn(request);
+
+        givenMembers(OWNER_ID, NEW_MEMBER_ID);
+        organizationService.approveJoinRequest(6L, OWNER_ID);
+
+        assertThat(membershipIndexService.isMember(NEW_MEMBER_ID, ORGANIZATION_ID)).isTrue();
+    }
+
+    @Test
+    void bulkApproveJoinRequestsInvalidatesIndex() {
+        givenMembers(OWNER_ID);
+        assertThat(membershipIndexService.findMemberUserIds(ORGANIZATION_ID, List.of(NEW_MEMBER_ID, OTHER_NEW_MEMBER_ID)))
+                .isEmpty();
+        List<Long> requestIds = List.of(7L, 8L);
+        when(organizationRepository.findById(ORGANIZATION_ID)).thenReturn(Optional.of(organization));
+        when(joinRequestRepository.lockByIdsAndOrganizationIdAndStatus(eq(requestIds), eq(ORGANIZATION_ID),
+                eq(InviteStatus.PENDING), any()))
+                .thenReturn(List.of(joinRequest(7L, NEW_MEMBER_ID), joinRequest(8L, OTHER_NEW_MEMBER_ID)));
+        when(userOrganizationRepository.findMemberUserIds(eq(ORGANIZATION_ID), anyCollection())).thenReturn(Set.of());
+
+        givenMembers(OWNER_ID, NEW_MEMBER_ID, OTHER_NEW_MEMBER_ID);
+        organizationService.approveJoinRequests(ORGANIZATION_ID, requestIds, OWNER_ID);
+
+        assertThat(membershipIndexService.findMemberUserIds(ORGANIZATION_ID, List.of(NEW_MEMBER_ID, OTHER_NEW_MEMBER_ID)))
+                .containsExactlyInAnyOrder(NEW_MEMBER_ID, OTHER_NEW_MEMBER_ID);
+    }
+
+    @Test
+    void loadRacingAnInvalidationIsNotCached() {
+        when(userOrganizationRepository.findUserIdsByOrganizationId(ORGANIZATION_ID))
+                .thenAnswer(invocation -> {
+                    membershipIndexService.onMembershipChanged(new MembershipChangedEvent(ORGANIZATION_ID));
+                    return List.of(OWNER_ID);
+                })
+                .thenReturn(List.of(OWNER_ID, NEW_MEMBER_ID));
+
+        assertThat(membershipIndexService.isMember(NEW_MEMBER_ID, ORGANIZATION_ID)).isFalse();
+        assertThat(membershipIndexService.isMember(NEW_MEMBER_ID, ORGANIZATION_ID)).isTrue();
+        assertThat(membershipIndexService.isMember(NEW_MEMBER_ID, ORGANIZATION_ID)).isTrue();
+
+        verify(userOrganizationRepository, times(2)).findUserIdsByOrganizationId(ORGANIZATION_ID);
+    }
+
+    @Test
+    void broadcastInvalidationDuringConcurrentLoadIsNotOverwritten() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+        when(userOrganizationRepository.findUserIdsByOrganizationId(ORGANIZATION_ID))
+                .thenAnswer(invocation -> {
+                    loading.countDown();
+                    assertThat(invalidated.await(5, TimeUnit.SECONDS)).isTrue();
+                    return List.of(OWNER_ID);
+                })
+                .thenReturn(List.of(OWNER_ID, NEW_MEMBER_ID));
+
+        Future<Boolean> staleRead = executor.submit(() -> membershipIndexService.isMember(NEW_MEMBER_ID, ORGANIZATION_ID));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        membershipIndexService.onMessage(new DefaultMessage(
+                MembershipIndexService.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                String.valueOf(ORGANIZATION_ID).getBytes(StandardCharsets.UTF_8)), null);
+        invalidated.countDown();
+
+        assertThat(staleRead.get(5, TimeUnit.SECONDS)).isFalse();
+        assertThat(membershipIndexService.isMember(NEW_MEMBER_ID, ORGANIZATION_ID)).isTrue();
+    }
+
+    private void givenMembers(Long... userIds) {
+        when(userOrganizationRepository.findUserIdsByOrganizationId(ORGANIZATION_ID)).thenReturn(List.of(userIds));
+    }
+
+    private JoinRequestEntity joinRequest(Long id, Long userId) {
+        return JoinRequestEntity.builder()
+                .id(id)
+                .userId(userId)
+                .organization(organization)
+                .status(InviteStatus.PENDING)
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package az.etaskify.service;
+
+import az.etaskify.dao.repository.InviteRepository;
+import az.etaskify.dao.repository.JoinRequestRepository;
+import az.etaskify.util.enums.InviteStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PendingRequestExpiryServiceTest {
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_BATCHES_PER_RUN = 3;
+
+    private InviteRepository inviteRepository;
+    private JoinRequestRepository joinRequestRepository;
+    private PendingRequestExpiryService pendingRequestExpiryService;
+
+    @BeforeEach
+    void setUp() {
+        inviteRepository = mock(InviteRepository.class);
+        joinRequestRepository = mock(JoinRequestRepository.class);
+        pendingRequestExpiryService = new PendingRequestExpiryService(inviteRepository, joinRequestRepository,
+                Duration.ofDays(14), Duration.ofDays(30), BATCH_SIZE, MAX_BATCHES_PER_RUN);
+    }
+
+    @Test
+    void sweepRepeatsFullBatchesUntilAShortOne() {
+        when(inviteRepository.expirePending(any(), eq(BATCH_SIZE))).thenReturn(2, 2, 1);
+        when(joinRequestRepository.expirePending(any(), eq(BATCH_SIZE))).thenReturn(0);
+
+        pendingRequestExpiryService.sweep();
+
+        verify(inviteRepository, times(3)).expirePending(any(), eq(BATCH_SIZE));
+        verify(joinRequestRepository, times(1)).expirePending(any(), eq(BATCH_SIZE));
+    }
+
+    @Test
+    void sweepStopsAfterMaxBatchesPerRun() {
+        when(inviteRepository.expirePending(any(), eq(BATCH_SIZE))).thenReturn(BATCH_SIZE);
+        when(joinRequestRepository.expirePending(any(), eq(BATCH_SIZE))).thenReturn(BATCH_SIZE);
+
+        pendingRequestExpiryService.sweep();
+
+        verify(inviteRepository, times(MAX_BATCHES_PER_RUN)).expirePending(any(), eq(BATCH_SIZE));
+        verify(joinRequestRepository, times(MAX_BATCHES_PER_RUN)).expirePending(any(), eq(BATCH_SIZE));
+    }
+
+    @Test
+    void sweepUsesTheSameCutoffForEveryBatch() {
+        when(inviteRepository.expirePending(any(), eq(BATCH_SIZE))).thenReturn(2, 0);
+        when(joinRequestRepository.expirePending(any(), eq(BATCH_SIZE))).thenReturn(2, 0);
+
+        pendingRequestExpiryService.sweep();
+
+        ArgumentCaptor<LocalDateTime> cutoffs = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(inviteRepository, times(2)).expirePending(cutoffs.capture(), eq(BATCH_SIZE));
+        verify(joinRequestRepository, times(2)).expirePending(cutoffs.capture(), eq(BATCH_SIZE));
+        assertThat(cutoffs.getAllValues()).containsOnly(cutoffs.getValue());
+    }
+
+    @Test
+    void overduePendingCountsAsExpired() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(pendingRequestExpiryService.effectiveStatus(InviteStatus.PENDING, now.minusSeconds(1)))
+                .isEqualTo(InviteStatus.EXPIRED);
+        assertThat(pendingRequestExpiryService.effectiveStatus(InviteStatus.PENDING, now.plusMinutes(1)))
+                .isEqualTo(InviteStatus.PENDING);
+        assertThat(pendingRequestExpiryService.effectiveStatus(InviteStatus.PENDING, null))
+                .isEqualTo(InviteStatus.PENDING);
+        assertThat(pendingRequestExpiryService.effectiveStatus(InviteStatus.ACCEPTED, now.minusDays(1)))
+                .isEqualTo(InviteStatus.ACCEPTED);
+    }
+
+    @Test
+    void newExpiriesUseTheConfiguredTtls() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(pendingRequestExpiryService.newInviteExpiry())
+                .isCloseTo(now.plusDays(14), within(5, ChronoUnit.SECONDS));
+        assertThat(pendingRequestExpiryService.newJoinRequestExpiry())
+                .isCloseTo(now.plusDays(30), within(5, ChronoUnit.SECONDS));
+    }
+}
@@ -0,0 +1,145 @@
+package az.etaskify.service;
+
+import az.etaskify.dao.entity.OrganizationEntity;
+import az.etaskify.dao.repository.InviteRepository;
+import az.etaskify.dao.repository.JoinRequestRepository;
+import az.etaskify.dao.repository.OrganizationRepository;
+import az.etaskify.dao.repository.PostgresRepositoryTest;
+import az.etaskify.dao.repository.UserOrganizationRepository;
+import az.etaskify.dto.PageResponseDto;
+import az.etaskify.dto.PublicOrganizationDto;
+import az.etaskify.mapper.JoinRequestMapper;
+import az.etaskify.mapper.OrganizationMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PublicOrganizationListingTest extends PostgresRepositoryTest {
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    private OrganizationService organizationService;
+    private List<Long> publicIds;
+    private List<Long> matchingIds;
+
+    @BeforeEach
+    void setUp() {
+        organizationService = new OrganizationService(organizationRepository, new OrganizationMapper(),
+                mock(UserOrganizationRepository.class), mock(InviteRepository.class), mock(UserLookupService.class),
+                mock(NotificationService.class), mock(JoinRequestRepository.class), mock(JoinRequestMapper.class),
+                mock(MembershipIndexService.class), mock(ApplicationEventPublisher.class),
+                mock(PendingRequestExpiryService.class));
+
+        givenUsers(1L);
+        publicIds = new ArrayList<>();
+        matchingIds = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            OrganizationEntity organization = save("Paging Team " + i, false);
+            publicIds.add(organization.getId());
+            matchingIds.add(organization.getId());
+            save("Paging Private " + i, true);
+        }
+        publicIds.add(save("Unrelated Club", false).getId());
+    }
+
+    @Test
+    void listingPagesReturnEveryPublicOrganizationOnce() {
+        assertThat(collectPages(null)).containsExactlyElementsOf(publicIds);
+    }
+
+    @Test
+    void searchPagesReturnEveryMatchOnce() {
+        assertThat(collectPages("paging team")).containsExactlyInAnyOrderElementsOf(matchingIds);
+    }
+
+    @Test
+    void searchExcludesPrivateOrganizations() {
+        assertThat(searchIds("paging private")).isEmpty();
+        assertThat(searchIds("paging")).containsExactlyInAnyOrderElementsOf(matchingIds);
+    }
+
+    @Test
+    void searchTreatsLikeWildcardsLiterally() {
+        Long percent = save("100% Remote", false).getId();
+        Long underscore = save("snake_case guild", false).getId();
+        save("snakescase guild", false);
+
+        assertThat(searchIds("%")).containsExactly(percent);
+        assertThat(searchIds("_")).containsExactly(underscore);
+        assertThat(searchIds("snake_case")).containsExactly(underscore);
+        assertThat(autocompleteIds("100%")).containsExactly(percent);
+    }
+
+    @Test
+    void searchHandlesQuotesAndBackslashes() {
+        Long quoted = save("O'Reilly \\ Sons", false).getId();
+
+        assertThat(searchIds("o'reilly")).containsExactly(quoted);
+        assertThat(searchIds("\\")).containsExactly(quoted);
+        assertThat(searchIds("no such organization")).isEmpty();
+    }
+
+    @Test
+    void searchRanksClosestNamesFirst() {
+        Long exact = save("Orbit", false).getId();
+        Long partial = save("Orbit Logistics International", false).getId();
+
+        assertThat(searchIds("orbit")).containsExactly(exact, partial);
+    }
+
+    @Test
+    void autocompleteMatchesPrefixOnlyAndPrefersShorterNames() {
+        assertThat(autocompleteIds("team")).isEmpty();
+        assertThat(autocompleteIds("Paging")).containsExactlyInAnyOrderElementsOf(matchingIds);
+        assertThat(organizationService.autocompletePublicOrganizations("  ", 5)).isEmpty();
+
+        Long shortName = save("Zeta", false).getId();
+        Long longName = save("Zeta Research Collective", false).getId();
+        assertThat(autocompleteIds("zeta")).containsExactly(shortName, longName);
+        assertThat(organizationService.autocompletePublicOrganizations("zeta", 1))
+                .extracting(PublicOrganizationDto::getId)
+                .containsExactly(shortName);
+    }
+
+    private List<Long> searchIds(String searchTerm) {
+        return organizationService.findPublicOrganizations(searchTerm, 0, 50).getItems().stream()
+                .map(PublicOrganizationDto::getId)
+                .toList();
+    }
+
+    private List<Long> autocompleteIds(String prefix) {
+        return organizationService.autocompletePublicOrganizations(prefix, 20).stream()
+                .map(PublicOrganizationDto::getId)
+                .toList();
+    }
+
+    private List<Long> collectPages(String searchTerm) {
+        List<Long> ids = new ArrayList<>();
+        int page = 0;
+        PageResponseDto<PublicOrganizationDto> response;
+        do {
+            response = organizationService.findPublicOrganizations(searchTerm, page++, PAGE_SIZE);
+            assertThat(response.getItems()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+            response.getItems().forEach(organization -> ids.add(organization.getId()));
+        } while (response.isHasNext());
+        assertThat(page).isGreaterThan(2);
+        return ids;
+    }
+
+    private OrganizationEntity save(String name, boolean isPrivate) {
+        return organizationRepository.save(OrganizationEntity.builder()
+                .name(name)
+                .ownerId(1L)
+                .isPrivate(isPrivate)
+                .build());
+    }
+}
@@ -0,0 +1,102 @@
+package az.etaskify.service;
+
+import az.etaskify.dto.StreamTicketDto;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamTicketServiceTest {
+    private static final Long USER_ID = 7L;
+    private static final Duration SHORT_TTL = Duration.ofMillis(300);
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    private StringRedisTemplate redisTemplate;
+    private StreamTicketService streamTicketService;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        streamTicketService = new StreamTicketService(redisTemplate, Duration.ofSeconds(30));
+    }
+
+    @Test
+    void ticketRedeemsOnceForTheUserItWasIssuedTo() {
+        StreamTicketDto ticket = streamTicketService.issue(USER_ID);
+
+        assertThat(ticket.expiresInSeconds()).isEqualTo(30);
+        assertThat(streamTicketService.redeem(ticket.ticket())).isEqualTo(USER_ID);
+        assertThat(streamTicketService.redeem(ticket.ticket())).isNull();
+    }
+
+    @Test
+    void ticketIsStoredWithItsTtl() {
+        StreamTicketDto ticket = streamTicketService.issue(USER_ID);
+
+        assertThat(redisTemplate.getExpire("etaskify:notification:stream-ticket:" + ticket.ticket(), TimeUnit.SECONDS))
+                .isBetween(1L, 30L);
+    }
+
+    @Test
+    void expiredTicketIsRejected() throws InterruptedException {
+        streamTicketService = new StreamTicketService(redisTemplate, SHORT_TTL);
+        StreamTicketDto ticket = streamTicketService.issue(USER_ID);
+
+        Thread.sleep(SHORT_TTL.multipliedBy(3).toMillis());
+
+        assertThat(streamTicketService.redeem(ticket.ticket())).isNull();
+    }
+
+    @Test
+    void unknownOrForgedTicketIsRejected() {
+        StreamTicketDto ticket = streamTicketService.issue(USER_ID);
+
+        assertThat(streamTicketService.redeem("not-a-ticket")).isNull();
+        assertThat(streamTicketService.redeem(ticket.ticket().substring(1))).isNull();
+        assertThat(streamTicketService.redeem(ticket.ticket())).isEqualTo(USER_ID);
+    }
+
+    @Test
+    void ticketsAreUniqueAndUrlSafe() {
+        String first = streamTicketService.issue(USER_ID).ticket();
+        String second = streamTicketService.issue(USER_ID).ticket();
+
+        assertThat(first).isNotEqualTo(second).matches("[A-Za-z0-9_-]{43}");
+    }
+}
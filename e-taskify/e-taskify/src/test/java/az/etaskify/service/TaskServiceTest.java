@@ -0,0 +1,254 @@
+package az.etaskify.service;
+
+import az.etaskify.dao.entity.OrganizationEntity;
+import az.etaskify.dao.entity.TaskAssigneeEntity;
+import az.etaskify.dao.entity.TaskEntity;
+import az.etaskify.dao.repository.OrganizationRepository;
+import az.etaskify.dao.repository.TaskAssigneeRepository;
+import az.etaskify.dao.repository.TaskRepository;
+import az.etaskify.dto.TaskAssigneeDto;
+import az.etaskify.dto.TaskBulkCreateRequestDto;
+import az.etaskify.dto.TaskCreateRequestDto;
+import az.etaskify.dto.TaskResponseDto;
+import az.etaskify.dto.TaskUpdateRequestDto;
+import az.etaskify.exception.InvalidTaskAssignmentException;
+import az.etaskify.util.enums.VisibilityStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TaskServiceTest {
+    private static final Long ORGANIZATION_ID = 10L;
+    private static final Long CREATOR_ID = 1L;
+    private static final Long MEMBER_ID = 2L;
+    private static final Long OTHER_MEMBER_ID = 3L;
+    private static final Long NEW_MEMBER_ID = 4L;
+    private static final Long OUTSIDER_ID = 99L;
+    private static final Long TASK_ID = 50L;
+
+    private TaskRepository taskRepository;
+    private TaskAssigneeRepository taskAssigneeRepository;
+    private MembershipIndexService membershipIndexService;
+    private TaskService taskService;
+    private OrganizationEntity organization;
+    private List<TaskAssigneeEntity> savedAssignees;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        taskAssigneeRepository = mock(TaskAssigneeRepository.class);
+        OrganizationRepository organizationRepository = mock(OrganizationRepository.class);
+        membershipIndexService = mock(MembershipIndexService.class);
+        UserLookupService userLookupService = mock(UserLookupService.class);
+        taskService = new TaskService(taskRepository, taskAssigneeRepository, organizationRepository,
+                membershipIndexService, userLookupService, mock(EntityManager.class), new ObjectMapper());
+
+        organization = OrganizationEntity.builder().id(ORGANIZATION_ID).name("Acme").build();
+        when(organizationRepository.findById(ORGANIZATION_ID)).thenReturn(Optional.of(organization));
+        when(membershipIndexService.isMember(CREATOR_ID, ORGANIZATION_ID)).thenReturn(true);
+        when(userLookupService.findByIds(anyCollection())).thenReturn(Map.of());
+
+        long[] nextTaskId = {100};
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<TaskEntity> tasks = invocation.getArgument(0);
+            tasks.forEach(task -> task.setId(nextTaskId[0]++));
+            return tasks;
+        });
+        savedAssignees = new ArrayList<>();
+        when(taskAssigneeRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<TaskAssigneeEntity> assignees = invocation.getArgument(0);
+            savedAssignees.addAll(assignees);
+            return assignees;
+        });
+    }
+
+    @Test
+    void createTasksRejectsBatchWithNonMemberAssigneeBeforeInserting() {
+        givenMembers(MEMBER_ID);
+        TaskBulkCreateRequestDto request = bulk(
+                task("Valid", VisibilityStatus.CUSTOM, MEMBER_ID),
+                task("Invalid", VisibilityStatus.CUSTOM, MEMBER_ID, OUTSIDER_ID),
+                task("Public", VisibilityStatus.PUBLIC));
+
+        assertThatThrownBy(() -> taskService.createTasks(ORGANIZATION_ID, request, CREATOR_ID))
+                .isInstanceOf(InvalidTaskAssignmentException.class)
+                .hasMessageContaining(String.valueOf(OUTSIDER_ID));
+
+        verify(membershipIndexService).findMemberUserIds(ORGANIZATION_ID, Set.of(MEMBER_ID, OUTSIDER_ID));
+        verify(taskRepository, never()).saveAll(anyList());
+        verify(taskAssigneeRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void createTasksRejectsCustomTaskWithoutAssigneesBeforeInserting() {
+        TaskBulkCreateRequestDto request = bulk(
+                task("Public", VisibilityStatus.PUBLIC),
+                task("Custom", VisibilityStatus.CUSTOM));
+
+        assertThatThrownBy(() -> taskService.createTasks(ORGANIZATION_ID, request, CREATOR_ID))
+                .isInstanceOf(InvalidTaskAssignmentException.class);
+
+        verifyNoInteractions(taskAssigneeRepository);
+        verify(taskRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void createTasksChecksDuplicateAssigneesOnceAndAssignsThemOnce() {
+        givenMembers(MEMBER_ID, OTHER_MEMBER_ID);
+        TaskBulkCreateRequestDto request = bulk(
+                task("First", VisibilityStatus.CUSTOM, MEMBER_ID, MEMBER_ID, OTHER_MEMBER_ID, CREATOR_ID),
+                task("Second", VisibilityStatus.CUSTOM, OTHER_MEMBER_ID, OTHER_MEMBER_ID));
+
+        List<TaskResponseDto> created = taskService.createTasks(ORGANIZATION_ID, request, CREATOR_ID);
+
+        verify(membershipIndexService, times(1)).findMemberUserIds(ORGANIZATION_ID, Set.of(MEMBER_ID, OTHER_MEMBER_ID));
+        verify(taskAssigneeRepository, times(1)).saveAll(anyList());
+        assertThat(savedAssignees)
+                .extracting(assignee -> assignee.getTaskEntity().getTitle() + ":" + assignee.getUserId())
+                .containsExactly("First:" + MEMBER_ID, "First:" + OTHER_MEMBER_ID, "Second:" + OTHER_MEMBER_ID);
+        assertThat(created).extracting(TaskResponseDto::getTitle).containsExactly("First", "Second");
+        assertThat(created.get(0).getAssignees()).extracting(TaskAssigneeDto::getUserId)
+                .containsExactly(MEMBER_ID, OTHER_MEMBER_ID);
+        assertThat(created.get(1).getAssignees()).extracting(TaskAssigneeDto::getUserId)
+                .containsExactly(OTHER_MEMBER_ID);
+    }
+
+    @Test
+    void createTasksWithoutCustomTasksSkipsMembershipLookupAndAssignees() {
+        List<TaskResponseDto> created = taskService.createTasks(ORGANIZATION_ID,
+                bulk(task("First", VisibilityStatus.PUBLIC), task("Second", VisibilityStatus.PUBLIC)), CREATOR_ID);
+
+        assertThat(created).extracting(TaskResponseDto::getId).containsExactly(100L, 101L);
+        verify(membershipIndexService, never()).findMemberUserIds(any(), anyCollection());
+        verifyNoInteractions(taskAssigneeRepository);
+    }
+
+    @Test
+    void createTasksWithEmptyBatchCreatesNothing() {
+        List<TaskResponseDto> created = taskService.createTasks(ORGANIZATION_ID, bulk(), CREATOR_ID);
+
+        assertThat(created).isEmpty();
+        verify(membershipIndexService, never()).findMemberUserIds(any(), anyCollection());
+        verifyNoInteractions(taskAssigneeRepository);
+    }
+
+    @Test
+    void updateTaskAddsAndRemovesOnlyChangedAssignees() throws Exception {
+        TaskEntity task = givenTask(MEMBER_ID, OTHER_MEMBER_ID);
+        givenMembers(MEMBER_ID, OTHER_MEMBER_ID, NEW_MEMBER_ID);
+
+        TaskResponseDto updated = taskService.updateTask(task.getId(), ORGANIZATION_ID,
+                update(VisibilityStatus.CUSTOM, OTHER_MEMBER_ID, NEW_MEMBER_ID, NEW_MEMBER_ID), CREATOR_ID);
+
+        verify(membershipIndexService).findMemberUserIds(ORGANIZATION_ID, Set.of(NEW_MEMBER_ID));
+        verify(taskAssigneeRepository).deleteByTaskIdAndUserIds(task.getId(), Set.of(MEMBER_ID));
+        assertThat(savedAssignees).extracting(TaskAssigneeEntity::getUserId).containsExactly(NEW_MEMBER_ID);
+        assertThat(updated.getAssignees()).extracting(TaskAssigneeDto::getUserId)
+                .containsExactly(OTHER_MEMBER_ID, NEW_MEMBER_ID);
+    }
+
+    @Test
+    void updateTaskWithUnchangedAssigneesWritesNoAssignees() throws Exception {
+        TaskEntity task = givenTask(MEMBER_ID, OTHER_MEMBER_ID);
+
+        taskService.updateTask(task.getId(), ORGANIZATION_ID,
+                update(VisibilityStatus.CUSTOM, OTHER_MEMBER_ID, MEMBER_ID), CREATOR_ID);
+
+        verify(membershipIndexService, never()).findMemberUserIds(any(), anyCollection());
+        verify(taskAssigneeRepository, never()).deleteByTaskIdAndUserIds(any(), anyCollection());
+        verify(taskAssigneeRepository, never()).saveAll(anyList());
+        verify(taskRepository).save(task);
+    }
+
+    @Test
+    void updateTaskRejectsNonMemberAssigneeWithoutChangingAssignees() {
+        TaskEntity task = givenTask(MEMBER_ID);
+        givenMembers(MEMBER_ID);
+
+        assertThatThrownBy(() -> taskService.updateTask(task.getId(), ORGANIZATION_ID,
+                update(VisibilityStatus.CUSTOM, OUTSIDER_ID), CREATOR_ID))
+                .isInstanceOf(InvalidTaskAssignmentException.class)
+                .hasMessageContaining(String.valueOf(OUTSIDER_ID));
+
+        verify(membershipIndexService).findMemberUserIds(ORGANIZATION_ID, Set.of(OUTSIDER_ID));
+        verify(taskAssigneeRepository, never()).deleteByTaskIdAndUserIds(any(), anyCollection());
+        verify(taskAssigneeRepository, never()).saveAll(anyList());
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    void updateTaskToPublicRemovesAllAssignees() throws Exception {
+        TaskEntity task = givenTask(MEMBER_ID, OTHER_MEMBER_ID);
+
+        TaskResponseDto updated = taskService.updateTask(task.getId(), ORGANIZATION_ID,
+                update(VisibilityStatus.PUBLIC), CREATOR_ID);
+
+        verify(taskAssigneeRepository).deleteByTaskIdAndUserIds(task.getId(), Set.of(MEMBER_ID, OTHER_MEMBER_ID));
+        verify(taskAssigneeRepository, never()).saveAll(anyList());
+        assertThat(updated.getVisibility()).isEqualTo(VisibilityStatus.PUBLIC);
+        assertThat(updated.getAssignees()).isEmpty();
+    }
+
+    private TaskEntity givenTask(Long... assigneeUserIds) {
+        TaskEntity task = TaskEntity.builder()
+                .id(TASK_ID)
+                .organization(organization)
+                .title("Existing")
+                .createdBy(CREATOR_ID)
+                .visibility(VisibilityStatus.CUSTOM)
+                .build();
+        when(taskRepository.findByIdAndOrganizationId(TASK_ID, ORGANIZATION_ID)).thenReturn(Optional.of(task));
+        when(taskRepository.save(task)).thenReturn(task);
+        when(taskAssigneeRepository.findUserIdsByTaskId(TASK_ID)).thenReturn(List.of(assigneeUserIds));
+        return task;
+    }
+
+    private void givenMembers(Long... userIds) {
+        Set<Long> members = new HashSet<>(Arrays.asList(userIds));
+        when(membershipIndexService.findMemberUserIds(eq(ORGANIZATION_ID), anyCollection()))
+                .thenAnswer(invocation -> {
+                    Collection<Long> requested = invocation.getArgument(1);
+                    Set<Long> found = new HashSet<>(requested);
+                    found.retainAll(members);
+                    return found;
+                });
+    }
+
+    private static TaskBulkCreateRequestDto bulk(TaskCreateRequestDto... tasks) {
+        return TaskBulkCreateRequestDto.builder().tasks(List.of(tasks)).build();
+    }
+
+    private static TaskUpdateRequestDto update(VisibilityStatus visibility, Long... assigneeUserIds) {
+        return TaskUpdateRequestDto.builder()
+                .title("Updated")
+                .visibility(visibility)
+                .assigneeUserIds(assigneeUserIds.length == 0 ? null : List.of(assigneeUserIds))
+                .build();
+    }
+
+    private static TaskCreateRequestDto task(String title, VisibilityStatus visibility, Long... assigneeUserIds) {
+        return TaskCreateRequestDto.builder()
+                .title(title)
+                .visibility(visibility)
+                .assigneeUserIds(assigneeUserIds.length == 0 ? null : List.of(assigneeUserIds))
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package az.etaskify.service;
+
+import az.etaskify.dao.entity.NotificationEntity;
+import az.etaskify.dao.repository.NotificationRepository;
+import az.etaskify.util.event.NotificationsCreatedEvent;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class UnreadCounterServiceTest {
+    private static final Long USER_ID = 7L;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    private NotificationRepository notificationRepository;
+    private UnreadCounterService unreadCounterService;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        notificationRepository = mock(NotificationRepository.class);
+        unreadCounterService = new UnreadCounterService(notificationRepository, redisTemplate, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void seededCounterIsIncrementedWithoutCountingAgain() {
+        when(notificationRepository.countByUserIdAndIsReadFalse(USER_ID)).thenReturn(2L);
+
+        assertThat(unreadCounterService.getUnreadCount(USER_ID)).isEqualTo(2);
+        unreadCounterService.onNotificationsCreated(createdFor(USER_ID, USER_ID));
+
+        assertThat(unreadCounterService.getUnreadCount(USER_ID)).isEqualTo(4);
+        verify(notificationRepository, times(1)).countByUserIdAndIsReadFalse(USER_ID);
+    }
+
+    @Test
+    void notificationCommittedBetweenCountAndSeedIsNotLost() {
+        when(notificationRepository.countByUserIdAndIsReadFalse(USER_ID))
+                .thenAnswer(invocation -> {
+                    unreadCounterService.onNotificationsCreated(createdFor(USER_ID));
+                    return 2L;
+                })
+                .thenReturn(3L);
+
+        assertThat(unreadCounterService.getUnreadCount(USER_ID)).isEqualTo(2);
+
+        assertThat(unreadCounterService.getUnreadCount(USER_ID)).isEqualTo(3);
+        assertThat(unreadCounterService.getUnreadCount(USER_ID)).isEqualTo(3);
+    }
+
+    @Test
+    void markAllReadBetweenCountAndSeedIsNotUndone() {
+        when(notificationRepository.countByUserIdAndIsReadFalse(USER_ID))
+                .thenAnswer(invocation -> {
+                    unreadCounterService.reset(USER_ID);
+                    return 5L;
+                })
+                .thenReturn(0L);
+
+        assertThat(unreadCounterService.getUnreadCount(USER_ID)).isEqualTo(5);
+
+        assertThat(unreadCounterService.getUnreadCount(USER_ID)).isZero();
+        assertThat(unreadCounterService.getUnreadCount(USER_ID)).isZero();
+    }
+
+    @Test
+    void resetDropsTheCounter() {
+        when(notificationRepository.countByUserIdAndIsReadFalse(USER_ID)).thenReturn(4L, 0L);
+
+        assertThat(unreadCounterService.getUnreadCount(USER_ID)).isEqualTo(4);
+        unreadCounterService.reset(USER_ID);
+
+        assertThat(unreadCounterService.getUnreadCount(USER_ID)).isZero();
+    }
+
+    private static NotificationsCreatedEvent createdFor(Long... userIds) {
+        return new NotificationsCreatedEvent(Arrays.stream(userIds)
+                .map(userId -> NotificationEntity.builder().userId(userId).build())
+                .toList());
+    }
+}
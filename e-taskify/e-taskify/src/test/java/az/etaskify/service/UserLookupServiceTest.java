@@ -0,0 +1,134 @@
+package az.etaskify.service;
+
+import az.etaskify.client.AuthClient;
+import az.etaskify.dto.CacheStatsDto;
+import az.etaskify.dto.UserDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class UserLookupServiceTest {
+    private static final UserDto ALICE = UserDto.builder().id(1L).username("alice").email("alice@example.com").build();
+    private static final UserDto BOB = UserDto.builder().id(2L).username("bob").email("bob@example.com").build();
+
+    private AuthClient authClient;
+    private StringRedisTemplate redisTemplate;
+    private UserLookupService userLookupService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        authClient = mock(AuthClient.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+        userLookupService = service(Duration.ofMinutes(5), Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userLookupService.shutdown();
+    }
+
+    @Test
+    void repeatLookupsAreServedFromTheLocalCache() {
+        when(authClient.findUsersByIds(Set.of(1L))).thenReturn(List.of(ALICE));
+
+        assertThat(userLookupService.findById(1L)).hasValueSatisfying(user ->
+                assertThat(user.getUsername()).isEqualTo("alice"));
+        assertThat(userLookupService.findById(1L)).isPresent();
+
+        verify(authClient, times(1)).findUsersByIds(anySet());
+        CacheStatsDto stats = userLookupService.getStats();
+        assertThat(stats.getMisses()).isEqualTo(1);
+        assertThat(stats.getL1Hits()).isEqualTo(1);
+    }
+
+    @Test
+    void batchLookupAsksAuthOnlyForMisses() {
+        when(authClient.findUsersByIds(Set.of(1L))).thenReturn(List.of(ALICE));
+        when(authClient.findUsersByIds(Set.of(2L, 3L))).thenReturn(List.of(BOB));
+        userLookupService.findById(1L);
+
+        assertThat(userLookupService.findByIds(List.of(1L, 2L, 3L))).containsOnlyKeys(1L, 2L);
+
+        verify(authClient).findUsersByIds(Set.of(2L, 3L));
+    }
+
+    @Test
+    void staleEntryIsServedWhileItIsReloadedInTheBackground() throws InterruptedException {
+        userLookupService.shutdown();
+        userLookupService = service(Duration.ZERO, Duration.ofHours(1));
+        when(authClient.findUsersByIds(Set.of(1L))).thenReturn(List.of(ALICE));
+        userLookupService.findById(1L);
+        Thread.sleep(5);
+
+        assertThat(userLookupService.findById(1L)).isPresent();
+
+        verify(authClient, timeout(1000).times(2)).findUsersByIds(Set.of(1L));
+        assertThat(userLookupService.getStats().getStaleHits()).isEqualTo(1);
+    }
+
+    @Test
+    void expiredEntryIsServedWhenAuthIsUnavailable() throws InterruptedException {
+        userLookupService.shutdown();
+        userLookupService = service(Duration.ZERO, Duration.ofMillis(1));
+        when(authClient.findUsersByIds(Set.of(1L)))
+                .thenReturn(List.of(ALICE))
+                .thenThrow(new IllegalStateException("auth unavailable"));
+        userLookupService.findById(1L);
+        Thread.sleep(5);
+
+        assertThat(userLookupService.findById(1L)).hasValueSatisfying(user ->
+                assertThat(user.getId()).isEqualTo(1L));
+        assertThat(userLookupService.getStats().getLoadFailures()).isEqualTo(1);
+    }
+
+    @Test
+    void keysBatchResultsByTheRequestedUsername() {
+        when(authClient.findUsersByUsernames(anySet())).thenReturn(List.of(ALICE));
+
+        Map<String, UserDto> users = userLookupService.findByUsernames(List.of("Alice", "bob"));
+
+        assertThat(users).containsOnlyKeys("Alice");
+        assertThat(users.get("Alice").getId()).isEqualTo(1L);
+    }
+
+    @Test
+    void answersEveryRequestedSpellingOfTheSameUser() {
+        when(authClient.findUsersByUsernames(anySet())).thenReturn(List.of(ALICE));
+
+        Map<String, UserDto> users = userLookupService.findByUsernames(List.of("alice", "ALICE", " Alice "));
+
+        assertThat(users).containsOnlyKeys("alice", "ALICE", " Alice ");
+        assertThat(users.values()).extracting(UserDto::getId).containsOnly(1L);
+    }
+
+    @Test
+    void servesDifferentlyCasedLookupsFromTheCache() {
+        when(authClient.findUsersByUsernames(Set.of("alice"))).thenReturn(List.of(ALICE));
+        userLookupService.findByUsernames(List.of("alice"));
+
+        assertThat(userLookupService.findByUsernames(List.of("ALICE"))).containsOnlyKeys("ALICE");
+        assertThat(userLookupService.findByUsername("Alice").getId()).isEqualTo(1L);
+
+        verify(authClient, times(1)).findUsersByUsernames(anySet());
+        verify(authClient, never()).findUserByUsername(anyString());
+    }
+
+    private UserLookupService service(Duration freshTtl, Duration maxStale) {
+        return new UserLookupService(authClient, redisTemplate, new ObjectMapper(), 100, freshTtl, maxStale, 1);
+    }
+}
@@ -0,0 +1,84 @@
+package az.etaskify.util.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LruCacheTest {
+
+    @Test
+    void boundsEntryCountByDefault() {
+        LruCache<String, String> cache = new LruCache<>(2);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.put("c", "3");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("c")).isEqualTo("3");
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedFirst() {
+        LruCache<String, String> cache = new LruCache<>(2);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+        cache.put("c", "3");
+
+        assertThat(cache.get("a")).isEqualTo("1");
+        assertThat(cache.get("b")).isNull();
+    }
+
+    @Test
+    void evictsUntilTotalWeightFits() {
+        LruCache<String, long[]> cache = new LruCache<>(10, value -> value.length);
+        cache.put("a", new long[3]);
+        cache.put("b", new long[3]);
+        cache.put("c", new long[3]);
+        cache.put("d", new long[6]);
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isNotNull();
+        assertThat(cache.get("d")).isNotNull();
+    }
+
+    @Test
+    void keepsSingleEntryHeavierThanTheLimit() {
+        LruCache<String, long[]> cache = new LruCache<>(10, value -> value.length);
+        cache.put("a", new long[2]);
+        cache.put("big", new long[20]);
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("big")).isNotNull();
+    }
+
+    @Test
+    void replacingAValueReplacesItsWeight() {
+        LruCache<String, long[]> cache = new LruCache<>(10, value -> value.length);
+        cache.put("a", new long[8]);
+        cache.put("a", new long[2]);
+        cache.put("b", new long[8]);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a")).hasSize(2);
+    }
+
+    @Test
+    void removeAndClearReleaseWeight() {
+        LruCache<String, long[]> cache = new LruCache<>(10, value -> value.length);
+        cache.put("a", new long[6]);
+        cache.remove("a");
+        cache.put("b", new long[6]);
+        cache.put("c", new long[4]);
+
+        assertThat(cache.size()).isEqualTo(2);
+
+        cache.clear();
+        cache.put("d", new long[10]);
+        cache.put("e", new long[0]);
+
+        assertThat(cache.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,138 @@
+package az.etaskify.util.jwt;
+
+import az.etaskify.client.JwksClient;
+import az.etaskify.dto.JwkDto;
+import az.etaskify.dto.JwkSetDto;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class JwksKeyStoreTest {
+    private static final Long USER_ID = 7L;
+
+    private static KeyPair oldKeys;
+    private static KeyPair newKeys;
+
+    private JwksClient jwksClient;
+    private JwksKeyStore jwksKeyStore;
+
+    @BeforeAll
+    static void generateKeys() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        oldKeys = generator.generateKeyPair();
+        newKeys = generator.generateKeyPair();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jwksClient = mock(JwksClient.class);
+        jwksKeyStore = new JwksKeyStore(jwksClient, Duration.ZERO);
+    }
+
+    @Test
+    void resolvesEachPublishedKeyByKid() {
+        when(jwksClient.getJwks()).thenReturn(jwks(jwk("old", oldKeys), jwk("new", newKeys)));
+
+        jwksKeyStore.refresh();
+
+        assertThat(jwksKeyStore.find("old")).isEqualTo(oldKeys.getPublic());
+        assertThat(jwksKeyStore.find("new")).isEqualTo(newKeys.getPublic());
+        assertThat(jwksKeyStore.find(null)).isNull();
+    }
+
+    @Test
+    void tokensSignedBeforeAndAfterRotationBothVerify() {
+        when(jwksClient.getJwks())
+                .thenReturn(jwks(jwk("old", oldKeys)))
+                .thenReturn(jwks(jwk("new", newKeys), jwk("old", oldKeys)));
+        jwksKeyStore.refresh();
+        JwtHelper jwtHelper = new JwtHelper(jwksKeyStore, 100);
+
+        String beforeRotation = JwtHelperTest.token("old", oldKeys, USER_ID.toString(), Duration.ofMinutes(5));
+        String afterRotation = JwtHelperTest.token("new", newKeys, USER_ID.toString(), Duration.ofMinutes(5));
+
+        assertThat(jwtHelper.verify(beforeRotation)).isPresent();
+        assertThat(jwtHelper.verify(afterRotation)).isPresent();
+        verify(jwksClient, times(2)).getJwks();
+    }
+
+    @Test
+    void tokenSignedWithTheOtherRotatedKeyIsRejected() {
+        when(jwksClient.getJwks()).thenReturn(jwks(jwk("old", oldKeys), jwk("new", newKeys)));
+        jwksKeyStore.refresh();
+        JwtHelper jwtHelper = new JwtHelper(jwksKeyStore, 100);
+
+        assertThat(jwtHelper.verify(JwtHelperTest.token("new", oldKeys, USER_ID.toString(), Duration.ofMinutes(5))))
+                .isEmpty();
+    }
+
+    @Test
+    void unknownKidsRefreshAtMostOncePerMinimumInterval() {
+        jwksKeyStore = new JwksKeyStore(jwksClient, Duration.ofMinutes(1));
+        when(jwksClient.getJwks()).thenReturn(jwks(jwk("old", oldKeys)));
+        jwksKeyStore.refresh();
+
+        assertThat(jwksKeyStore.find("forged-1")).isNull();
+        assertThat(jwksKeyStore.find("forged-2")).isNull();
+
+        verify(jwksClient, times(1)).getJwks();
+    }
+
+    @Test
+    void failedRefreshKeepsKnownKeys() {
+        when(jwksClient.getJwks())
+                .thenReturn(jwks(jwk("old", oldKeys)))
+                .thenThrow(new IllegalStateException("auth unavailable"));
+        jwksKeyStore.refresh();
+
+        jwksKeyStore.refresh();
+
+        assertThat(jwksKeyStore.find("old")).isEqualTo(oldKeys.getPublic());
+    }
+
+    @Test
+    void skipsKeysThatAreNotRsaOrHaveNoKid() {
+        JwkDto rsa = jwk("old", oldKeys);
+        when(jwksClient.getJwks()).thenReturn(jwks(
+                rsa,
+                new JwkDto("EC", "ec", "sig", "ES256", rsa.n(), rsa.e()),
+                new JwkDto("RSA", null, "sig", "RS256", rsa.n(), rsa.e())));
+
+        jwksKeyStore.refresh();
+
+        assertThat(jwksKeyStore.find("old")).isNotNull();
+        assertThat(jwksKeyStore.find("ec")).isNull();
+    }
+
+    private static JwkSetDto jwks(JwkDto... keys) {
+        return new JwkSetDto(List.of(keys));
+    }
+
+    private static JwkDto jwk(String kid, KeyPair keys) {
+        RSAPublicKey publicKey = (RSAPublicKey) keys.getPublic();
+        return new JwkDto("RSA", kid, "sig", "RS256", base64Url(publicKey.getModulus()),
+                base64Url(publicKey.getPublicExponent()));
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
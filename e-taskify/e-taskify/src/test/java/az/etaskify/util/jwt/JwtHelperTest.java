@@ -0,0 +1,137 @@
+package az.etaskify.util.jwt;
+
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class JwtHelperTest {
+    private static final String KID = "current";
+    private static final Long USER_ID = 7L;
+
+    private static KeyPair signingKeys;
+    private static KeyPair otherKeys;
+
+    private JwksKeyStore jwksKeyStore;
+    private JwtHelper jwtHelper;
+
+    @BeforeAll
+    static void generateKeys() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        signingKeys = generator.generateKeyPair();
+        otherKeys = generator.generateKeyPair();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jwksKeyStore = mock(JwksKeyStore.class);
+        when(jwksKeyStore.find(KID)).thenReturn(signingKeys.getPublic());
+        jwtHelper = new JwtHelper(jwksKeyStore, 100);
+    }
+
+    @Test
+    void acceptsValidTokenFromAuthHeader() {
+        String token = token(KID, signingKeys, USER_ID.toString(), Duration.ofMinutes(5));
+
+        assertThat(jwtHelper.verifyAuthHeader("Bearer " + token)).hasValueSatisfying(verified ->
+                assertThat(verified.userId()).isEqualTo(USER_ID));
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        String token = token(KID, signingKeys, USER_ID.toString(), Duration.ofMinutes(-1));
+
+        assertThat(jwtHelper.verify(token)).isEmpty();
+    }
+
+    @Test
+    void rejectsTokenWithTamperedClaims() {
+        String token = token(KID, signingKeys, USER_ID.toString(), Duration.ofMinutes(5));
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+        String forgedPayload = payload.replace("\"sub\":\"7\"", "\"sub\":\"1\"");
+        assertThat(forgedPayload).isNotEqualTo(payload);
+
+        String tampered = parts[0] + "." + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(forgedPayload.getBytes(StandardCharsets.UTF_8)) + "." + parts[2];
+
+        assertThat(jwtHelper.verify(tampered)).isEmpty();
+    }
+
+    @Test
+    void rejectsTokenSignedWithAnotherKeyUnderAKnownKid() {
+        String token = token(KID, otherKeys, USER_ID.toString(), Duration.ofMinutes(5));
+
+        assertThat(jwtHelper.verify(token)).isEmpty();
+    }
+
+    @Test
+    void rejectsTokenWithUnknownOrMissingKid() {
+        assertThat(jwtHelper.verify(token("unknown", signingKeys, USER_ID.toString(), Duration.ofMinutes(5))))
+                .isEmpty();
+        assertThat(jwtHelper.verify(token(null, signingKeys, USER_ID.toString(), Duration.ofMinutes(5))))
+                .isEmpty();
+    }
+
+    @Test
+    void rejectsUnsignedAndMalformedTokens() {
+        String unsigned = Jwts.builder()
+                .subject(USER_ID.toString())
+                .expiration(Date.from(Instant.now().plus(Duration.ofMinutes(5))))
+                .compact();
+
+        assertThat(jwtHelper.verify(unsigned)).isEmpty();
+        assertThat(jwtHelper.verify("not.a.token")).isEmpty();
+        assertThat(jwtHelper.verifyAuthHeader(" ")).isEmpty();
+    }
+
+    @Test
+    void rejectsTokenWithoutNumericSubject() {
+        assertThat(jwtHelper.verify(token(KID, signingKeys, "alice", Duration.ofMinutes(5)))).isEmpty();
+    }
+
+    @Test
+    void repeatVerificationIsServedFromTheCache() {
+        String token = token(KID, signingKeys, USER_ID.toString(), Duration.ofMinutes(5));
+
+        assertThat(jwtHelper.verify(token)).isPresent();
+        assertThat(jwtHelper.verify(token)).isPresent();
+
+        verify(jwksKeyStore, times(1)).find(KID);
+    }
+
+    @Test
+    void expiredCachedTokenIsNotAccepted() throws InterruptedException {
+        String token = token(KID, signingKeys, USER_ID.toString(), Duration.ofSeconds(2));
+        assertThat(jwtHelper.verify(token)).isPresent();
+
+        Thread.sleep(2100);
+
+        assertThat(jwtHelper.verify(token)).isEmpty();
+    }
+
+    static String token(String kid, KeyPair keys, String subject, Duration expiresIn) {
+        var builder = Jwts.builder();
+        if (kid != null) {
+            builder.header().keyId(kid);
+        }
+        return builder
+                .subject(subject)
+                .expiration(Date.from(Instant.now().plus(expiresIn)))
+                .signWith(keys.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+    }
+}
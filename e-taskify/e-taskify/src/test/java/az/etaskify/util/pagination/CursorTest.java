@@ -0,0 +1,54 @@
+package az.etaskify.util.pagination;
+
+import az.etaskify.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorTest {
+
+    @Test
+    void decodesWhatItEncodes() {
+        Cursor cursor = new Cursor(LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_793_000), 42L);
+
+        assertThat(Cursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void keepsWholeSecondTimestamps() {
+        Cursor cursor = new Cursor(LocalDateTime.of(2025, 1, 1, 0, 0), Long.MAX_VALUE);
+
+        assertThat(Cursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodesAsUrlSafeStringWithoutPadding() {
+        String encoded = new Cursor(LocalDateTime.of(2025, 3, 14, 9, 26, 53, 1_000), 7L).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "not base64!", "2025-01-01T00:00|1"})
+    void rejectsStringsThatAreNotCursors(String cursor) {
+        assertThatThrownBy(() -> Cursor.decode(cursor))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"no-separator", "not-a-date|1", "2025-01-01T00:00|not-a-number", "2025-01-01T00:00|"})
+    void rejectsMalformedContent(String raw) {
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> Cursor.decode(cursor))
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessage("Malformed page cursor.");
+    }
+}
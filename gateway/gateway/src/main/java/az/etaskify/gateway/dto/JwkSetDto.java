@@ -0,0 +1,6 @@
+package az.etaskify.gateway.dto;
+
+import java.util.List;
+
+public record JwkSetDto(List<JwkDto> keys) {
+}
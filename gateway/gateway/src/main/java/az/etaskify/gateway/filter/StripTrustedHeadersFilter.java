@@ -0,0 +1,33 @@
+package az.etaskify.gateway.filter;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Removes the trusted user headers from every incoming request, on every route, so a client
+ * can never forge them. Only {@link TrustedUserHeaderGatewayFilterFactory} sets them again.
+ */
+@Component
+public class StripTrustedHeadersFilter implements GlobalFilter, Ordered {
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+		ServerHttpRequest stripped = exchange.getRequest().mutate()
+				.headers(headers -> {
+					headers.remove(TrustedUserHeaderGatewayFilterFactory.USER_ID_HEADER);
+					headers.remove(TrustedUserHeaderGatewayFilterFactory.SECRET_HEADER);
+				})
+				.build();
+		return chain.filter(exchange.mutate().request(stripped).build());
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+}
@@ -0,0 +1,72 @@
+package az.etaskify.gateway.filter;
+
+import az.etaskify.gateway.jwt.JwtVerifier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Route filter ({@code filters=TrustedUserHeader}) that verifies the bearer token once at the
+ * edge and forwards the caller's id to the backend as {@value #USER_ID_HEADER}, together with the
+ * shared {@value #SECRET_HEADER} that lets the backend trust it. It is applied only to routes of
+ * services that accept these headers, so the secret never reaches the others. Requests without a
+ * token pass through untouched; a present but invalid token is rejected with 401.
+ */
+@Slf4j
+@Component
+public class TrustedUserHeaderGatewayFilterFactory extends AbstractGatewayFilterFactory<Object> {
+	public static final String USER_ID_HEADER = "X-User-Id";
+	public static final String SECRET_HEADER = "X-Gateway-Secret";
+	private static final String BEARER_PREFIX = "Bearer ";
+	private static final String PUBLISHED_PLACEHOLDER_SECRET = "change-me-gateway-shared-secret";
+	private static final int MIN_SECRET_LENGTH = 32;
+
+	private final JwtVerifier jwtVerifier;
+	private final String sharedSecret;
+
+	public TrustedUserHeaderGatewayFilterFactory(JwtVerifier jwtVerifier,
+												 @Value("${gateway.shared-secret:}") String sharedSecret) {
+		super(Object.class);
+		if (sharedSecret.length() < MIN_SECRET_LENGTH || sharedSecret.equals(PUBLISHED_PLACEHOLDER_SECRET)) {
+			throw new IllegalStateException("gateway.shared-secret must be set to a private value of at least "
+					+ MIN_SECRET_LENGTH + " characters");
+		}
+		this.jwtVerifier = jwtVerifier;
+		this.sharedSecret = sharedSecret;
+	}
+
+	@Override
+	public GatewayFilter apply(Object config) {
+		return (exchange, chain) -> {
+			String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+			if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+				return chain.filter(exchange);
+			}
+
+			return jwtVerifier.verify(authHeader.substring(BEARER_PREFIX.length()).trim())
+					.map(Optional::of)
+					.defaultIfEmpty(Optional.empty())
+					.flatMap(userId -> {
+						if (userId.isEmpty()) {
+							log.warn("Rejected request to {} with an invalid or expired token",
+									exchange.getRequest().getPath());
+							exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+							return exchange.getResponse().setComplete();
+						}
+						ServerHttpRequest trusted = exchange.getRequest().mutate()
+								.header(USER_ID_HEADER, userId.get().toString())
+								.header(SECRET_HEADER, sharedSecret)
+								.build();
+						return chain.filter(exchange.mutate().request(trusted).build());
+					});
+		};
+	}
+}
@@ -0,0 +1,109 @@
+package az.etaskify.gateway.jwt;
+
+import az.etaskify.gateway.dto.JwkDto;
+import az.etaskify.gateway.dto.JwkSetDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Public keys of the auth service, fetched from its JWKS endpoint and looked up by {@code kid}.
+ * <p>
+ * The set is refreshed every {@code jwt.jwks.refresh-interval-ms}. An unknown kid triggers an
+ * early refresh, at most once per {@code jwt.jwks.min-refresh-interval}; requests arriving while
+ * that fetch runs wait on the same call instead of starting their own.
+ */
+@Slf4j
+@Component
+public class JwksKeyStore {
+	private final WebClient webClient;
+	private final long minRefreshIntervalMillis;
+
+	private volatile Map<String, PublicKey> keys = Map.of();
+	private Mono<Void> lastRefresh;
+	private long lastRefreshMillis;
+
+	public JwksKeyStore(WebClient.Builder webClientBuilder,
+						@Value("${auth.base-url}") String authBaseUrl,
+						@Value("${jwt.jwks.min-refresh-interval:30s}") Duration minRefreshInterval) {
+		this.webClient = webClientBuilder.baseUrl(authBaseUrl).build();
+		this.minRefreshIntervalMillis = minRefreshInterval.toMillis();
+	}
+
+	public PublicKey find(String kid) {
+		return kid == null ? null : keys.get(kid);
+	}
+
+	/**
+	 * Completes once {@code kid} is known, or once a refresh has been tried if it is not.
+	 */
+	public Mono<Void> ensureKnown(String kid) {
+		if (kid == null || keys.containsKey(kid)) {
+			return Mono.empty();
+		}
+		return refreshAtMostOncePerInterval();
+	}
+
+	@Scheduled(initialDelayString = "${jwt.jwks.refresh-interval-ms:300000}",
+			fixedDelayString = "${jwt.jwks.refresh-interval-ms:300000}")
+	public void scheduledRefresh() {
+		refreshAtMostOncePerInterval().subscribe();
+	}
+
+	private synchronized Mono<Void> refreshAtMostOncePerInterval() {
+		long now = System.currentTimeMillis();
+		if (lastRefresh == null || now - lastRefreshMillis >= minRefreshIntervalMillis) {
+			lastRefreshMillis = now;
+			lastRefresh = fetch().cache();
+		}
+		return lastRefresh;
+	}
+
+	private Mono<Void> fetch() {
+		return webClient.get()
+				.uri("/.well-known/jwks.json")
+				.retrieve()
+				.bodyToMono(JwkSetDto.class)
+				.doOnNext(jwks -> keys = toPublicKeys(jwks))
+				.onErrorResume(e -> {
+					log.warn("Could not fetch JWKS from auth service, keeping {} known keys: {}", keys.size(),
+							e.getMessage());
+					return Mono.empty();
+				})
+				.then();
+	}
+
+	private Map<String, PublicKey> toPublicKeys(JwkSetDto jwks) {
+		Map<String, PublicKey> fetched = new HashMap<>();
+		if (jwks.keys() == null) {
+			return Map.of();
+		}
+		for (JwkDto jwk : jwks.keys()) {
+			if (!"RSA".equals(jwk.kty()) || jwk.kid() == null) {
+				continue;
+			}
+			try {
+				Base64.Decoder decoder = Base64.getUrlDecoder();
+				RSAPublicKeySpec spec = new RSAPublicKeySpec(new BigInteger(1, decoder.decode(jwk.n())),
+						new BigInteger(1, decoder.decode(jwk.e())));
+				fetched.put(jwk.kid(), KeyFactory.getInstance("RSA").generatePublic(spec));
+			} catch (GeneralSecurityException | IllegalArgumentException e) {
+				log.warn("Skipping malformed JWK {}: {}", jwk.kid(), e.getMessage());
+			}
+		}
+		return Map.copyOf(fetched);
+	}
+}
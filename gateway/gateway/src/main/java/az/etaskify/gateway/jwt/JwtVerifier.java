@@ -0,0 +1,77 @@
+package az.etaskify.gateway.jwt;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.ProtectedHeader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.security.Key;
+import java.util.Base64;
+
+/**
+ * Verifies access tokens against the auth service's published keys with one shared parser.
+ * The token's kid is read up front so an unknown key can be fetched without blocking the
+ * event loop; the signature check itself only reads already-loaded keys.
+ */
+@Slf4j
+@Component
+public class JwtVerifier {
+	private final JwksKeyStore jwksKeyStore;
+	private final ObjectMapper objectMapper;
+	private final JwtParser parser;
+
+	public JwtVerifier(JwksKeyStore jwksKeyStore, ObjectMapper objectMapper) {
+		this.jwksKeyStore = jwksKeyStore;
+		this.objectMapper = objectMapper;
+		this.parser = Jwts.parser()
+				.keyLocator(new LocatorAdapter<Key>() {
+					@Override
+					protected Key locate(ProtectedHeader header) {
+						return jwksKeyStore.find(header.getKeyId());
+					}
+				})
+				.build();
+	}
+
+	/**
+	 * User id of a valid token, or empty if the token is malformed, expired, signed by an
+	 * unknown key or has no numeric subject.
+	 */
+	public Mono<Long> verify(String token) {
+		String kid;
+		try {
+			kid = readKeyId(token);
+		} catch (IOException | IllegalArgumentException e) {
+			return Mono.empty();
+		}
+		return jwksKeyStore.ensureKnown(kid).then(Mono.fromSupplier(() -> parseUserId(token)));
+	}
+
+	private Long parseUserId(String token) {
+		try {
+			Claims claims = parser.parseSignedClaims(token).getPayload();
+			return claims.getSubject() == null ? null : Long.parseLong(claims.getSubject());
+		} catch (JwtException | IllegalArgumentException e) {
+			log.debug("Rejected access token: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private String readKeyId(String token) throws IOException {
+		int headerEnd = token.indexOf('.');
+		if (headerEnd <= 0) {
+			throw new IllegalArgumentException("Token has no header");
+		}
+		JsonNode header = objectMapper.readTree(Base64.getUrlDecoder().decode(token.substring(0, headerEnd)));
+		JsonNode kid = header.get("kid");
+		return kid == null ? null : kid.asText();
+	}
+}
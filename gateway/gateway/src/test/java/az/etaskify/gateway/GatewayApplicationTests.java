@@ -3,7 +3,7 @@ package az.etaskify.gateway;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "gateway.shared-secret=test-shared-secret-0123456789abcdef")
 class GatewayApplicationTests {
 
 	@Test
@@ -0,0 +1,56 @@
+package az.etaskify.gateway.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static az.etaskify.gateway.filter.TrustedUserHeaderGatewayFilterFactory.SECRET_HEADER;
+import static az.etaskify.gateway.filter.TrustedUserHeaderGatewayFilterFactory.USER_ID_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripTrustedHeadersFilterTest {
+	private final StripTrustedHeadersFilter filter = new StripTrustedHeadersFilter();
+
+	@Test
+	void removesInboundTrustedHeadersAndKeepsTheRest() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/organizations")
+				.header(USER_ID_HEADER, "1")
+				.header(SECRET_HEADER, "guessed")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer token"));
+		AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+
+		filter.filter(exchange, capture(forwarded)).block();
+
+		HttpHeaders headers = forwarded.get().getRequest().getHeaders();
+		assertThat(headers.containsKey(USER_ID_HEADER)).isFalse();
+		assertThat(headers.containsKey(SECRET_HEADER)).isFalse();
+		assertThat(headers.getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo("Bearer token");
+	}
+
+	@Test
+	void removesEveryValueOfARepeatedHeader() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/otp/send")
+				.header(USER_ID_HEADER, "1", "2")
+				.header(SECRET_HEADER.toLowerCase(), "guessed"));
+		AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+
+		filter.filter(exchange, capture(forwarded)).block();
+
+		HttpHeaders headers = forwarded.get().getRequest().getHeaders();
+		assertThat(headers.get(USER_ID_HEADER)).isNull();
+		assertThat(headers.get(SECRET_HEADER)).isNull();
+	}
+
+	static GatewayFilterChain capture(AtomicReference<ServerWebExchange> forwarded) {
+		return exchange -> {
+			forwarded.set(exchange);
+			return Mono.empty();
+		};
+	}
+}
@@ -0,0 +1,89 @@
+package az.etaskify.gateway.filter;
+
+import az.etaskify.gateway.jwt.JwtVerifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static az.etaskify.gateway.filter.StripTrustedHeadersFilterTest.capture;
+import static az.etaskify.gateway.filter.TrustedUserHeaderGatewayFilterFactory.SECRET_HEADER;
+import static az.etaskify.gateway.filter.TrustedUserHeaderGatewayFilterFactory.USER_ID_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TrustedUserHeaderGatewayFilterFactoryTest {
+	private static final String SECRET = "test-shared-secret-0123456789abcdef";
+
+	private JwtVerifier jwtVerifier;
+	private GatewayFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		jwtVerifier = mock(JwtVerifier.class);
+		when(jwtVerifier.verify(any())).thenReturn(Mono.empty());
+		when(jwtVerifier.verify("valid-token")).thenReturn(Mono.just(7L));
+		filter = new TrustedUserHeaderGatewayFilterFactory(jwtVerifier, SECRET).apply(new Object());
+	}
+
+	@Test
+	void validTokenIsForwardedAsTrustedHeaders() {
+		AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+
+		filter.filter(exchange("Bearer valid-token"), capture(forwarded)).block();
+
+		HttpHeaders headers = forwarded.get().getRequest().getHeaders();
+		assertThat(headers.getFirst(USER_ID_HEADER)).isEqualTo("7");
+		assertThat(headers.getFirst(SECRET_HEADER)).isEqualTo(SECRET);
+	}
+
+	@Test
+	void invalidOrExpiredTokenIsRejected() {
+		MockServerWebExchange exchange = exchange("Bearer expired-token");
+		AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+
+		filter.filter(exchange, capture(forwarded)).block();
+
+		assertThat(forwarded.get()).isNull();
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+	}
+
+	@Test
+	void requestWithoutTokenPassesThroughWithoutTrustedHeaders() {
+		AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+
+		filter.filter(exchange(null), capture(forwarded)).block();
+
+		HttpHeaders headers = forwarded.get().getRequest().getHeaders();
+		assertThat(headers.containsKey(USER_ID_HEADER)).isFalse();
+		assertThat(headers.containsKey(SECRET_HEADER)).isFalse();
+		verifyNoInteractions(jwtVerifier);
+	}
+
+	@Test
+	void missingShortOrPlaceholderSecretFailsStartup() {
+		assertThatThrownBy(() -> new TrustedUserHeaderGatewayFilterFactory(jwtVerifier, ""))
+				.isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> new TrustedUserHeaderGatewayFilterFactory(jwtVerifier, "too-short"))
+				.isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> new TrustedUserHeaderGatewayFilterFactory(jwtVerifier,
+				"change-me-gateway-shared-secret")).isInstanceOf(IllegalStateException.class);
+	}
+
+	private static MockServerWebExchange exchange(String authHeader) {
+		MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/v1/organizations");
+		if (authHeader != null) {
+			request.header(HttpHeaders.AUTHORIZATION, authHeader);
+		}
+		return MockServerWebExchange.from(request);
+	}
+}
@@ -0,0 +1,110 @@
+package az.etaskify.gateway.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class JwtVerifierTest {
+	private static final String KID = "current";
+	private static final Long USER_ID = 7L;
+
+	private static KeyPair signingKeys;
+	private static KeyPair otherKeys;
+
+	private JwksKeyStore jwksKeyStore;
+	private JwtVerifier jwtVerifier;
+
+	@BeforeAll
+	static void generateKeys() throws NoSuchAlgorithmException {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		signingKeys = generator.generateKeyPair();
+		otherKeys = generator.generateKeyPair();
+	}
+
+	@BeforeEach
+	void setUp() {
+		jwksKeyStore = mock(JwksKeyStore.class);
+		when(jwksKeyStore.ensureKnown(any())).thenReturn(Mono.empty());
+		when(jwksKeyStore.find(KID)).thenReturn(signingKeys.getPublic());
+		jwtVerifier = new JwtVerifier(jwksKeyStore, new ObjectMapper());
+	}
+
+	@Test
+	void acceptsValidToken() {
+		assertThat(jwtVerifier.verify(token(KID, signingKeys, USER_ID.toString(), Duration.ofMinutes(5))).block())
+				.isEqualTo(USER_ID);
+	}
+
+	@Test
+	void rejectsExpiredToken() {
+		assertThat(jwtVerifier.verify(token(KID, signingKeys, USER_ID.toString(), Duration.ofMinutes(-1))).block())
+				.isNull();
+	}
+
+	@Test
+	void rejectsTokenWithTamperedClaims() {
+		String token = token(KID, signingKeys, USER_ID.toString(), Duration.ofMinutes(5));
+		String[] parts = token.split("\\.");
+		String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+		String forgedPayload = payload.replace("\"sub\":\"7\"", "\"sub\":\"1\"");
+		assertThat(forgedPayload).isNotEqualTo(payload);
+
+		String tampered = parts[0] + "." + Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(forgedPayload.getBytes(StandardCharsets.UTF_8)) + "." + parts[2];
+
+		assertThat(jwtVerifier.verify(tampered).block()).isNull();
+	}
+
+	@Test
+	void rejectsTokenSignedWithAnotherKeyUnderAKnownKid() {
+		assertThat(jwtVerifier.verify(token(KID, otherKeys, USER_ID.toString(), Duration.ofMinutes(5))).block())
+				.isNull();
+	}
+
+	@Test
+	void unknownKidIsLookedUpBeforeVerifying() {
+		when(jwksKeyStore.find("rotated")).thenReturn(otherKeys.getPublic());
+
+		assertThat(jwtVerifier.verify(token("rotated", otherKeys, USER_ID.toString(), Duration.ofMinutes(5))).block())
+				.isEqualTo(USER_ID);
+		verify(jwksKeyStore).ensureKnown("rotated");
+	}
+
+	@Test
+	void rejectsUnsignedAndMalformedTokens() {
+		String unsigned = Jwts.builder()
+				.subject(USER_ID.toString())
+				.expiration(Date.from(Instant.now().plus(Duration.ofMinutes(5))))
+				.compact();
+
+		assertThat(jwtVerifier.verify(unsigned).block()).isNull();
+		assertThat(jwtVerifier.verify("not-a-token").block()).isNull();
+		assertThat(jwtVerifier.verify("%%%.payload.signature").block()).isNull();
+	}
+
+	static String token(String kid, KeyPair keys, String subject, Duration expiresIn) {
+		return Jwts.builder()
+				.header().keyId(kid).and()
+				.subject(subject)
+				.expiration(Date.from(Instant.now().plus(expiresIn)))
+				.signWith(keys.getPrivate(), Jwts.SIG.RS256)
+				.compact();
+	}
+}